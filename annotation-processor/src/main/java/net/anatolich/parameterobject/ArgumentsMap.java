@@ -1,5 +1,6 @@
 package net.anatolich.parameterobject;
 
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -12,6 +13,7 @@ public class ArgumentsMap {
         .get(Map.class, String.class, Object.class);
     private static final ParameterizedTypeName IMPLEMENTATION_TYPE = ParameterizedTypeName
         .get(HashMap.class, String.class, Object.class);
+    private static final ClassName VIEW_SUPERCLASS = ClassName.get(FixedArgumentsMap.class);
 
     private ArgumentsMap() {
         throw new UnsupportedOperationException("must not be instantiated");
@@ -29,6 +31,10 @@ public class ArgumentsMap {
         return CodeBlock.of("return $N", variableName);
     }
 
+    static ClassName viewSuperclass() {
+        return VIEW_SUPERCLASS;
+    }
+
     static ParameterizedTypeName type() {
         return TYPE;
     }
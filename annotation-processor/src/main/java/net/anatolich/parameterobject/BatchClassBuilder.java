@@ -0,0 +1,203 @@
+package net.anatolich.parameterobject;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Builds a struct-of-arrays container holding many invocations of one method. Each parameter is stored
+ * in its own column, a primitive array for primitive parameters and an object array otherwise.
+ */
+public class BatchClassBuilder {
+
+    private static final String DEFAULT_CAPACITY_FIELD = "DEFAULT_CAPACITY";
+    private static final String SIZE_FIELD = "size";
+    private static final String CAPACITY_FIELD = "capacity";
+
+    private final ClassName batchClassName;
+    private final ClassName parametersClassName;
+    private final Parameters parameters;
+    private final ExecutableElement method;
+
+    public BatchClassBuilder(ClassName parametersClassName, Parameters parameters, ExecutableElement method) {
+        this.batchClassName = parametersClassName.peerClass(parametersClassName.simpleName() + "Batch");
+        this.parametersClassName = parametersClassName;
+        this.parameters = parameters;
+        this.method = method;
+    }
+
+    public ClassName className() {
+        return batchClassName;
+    }
+
+    public TypeSpec build() {
+        return TypeSpec.classBuilder(batchClassName)
+            .addJavadoc("Invocations of {@link $T} stored column by column. Not thread-safe.\n", parametersClassName)
+            .addOriginatingElement(method)
+            .addModifiers(ParameterObjectClassBuilder.classModifiers(batchClassName))
+            .addField(FieldSpec.builder(int.class, DEFAULT_CAPACITY_FIELD)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("16")
+                .build())
+            .addFields(parameters.columnFields())
+            .addField(int.class, SIZE_FIELD, Modifier.PRIVATE)
+            .addField(int.class, CAPACITY_FIELD, Modifier.PRIVATE)
+            .addMethod(buildDefaultConstructor())
+            .addMethod(buildCapacityConstructor())
+            .addMethod(buildAddMethod())
+            .addMethod(buildAddParametersMethod())
+            .addMethod(buildGetMethod())
+            .addMethods(parameters.columnGetters("index"))
+            .addMethod(buildAcceptMethod())
+            .addMethod(buildSizeMethod())
+            .addMethod(buildIsEmptyMethod())
+            .addMethod(buildClearMethod())
+            .addMethod(buildSpliteratorMethod())
+            .addMethod(buildIndicesMethod())
+            .addMethod(buildCheckIndexMethod())
+            .addMethod(buildGrowMethod())
+            .build();
+    }
+
+    private MethodSpec buildDefaultConstructor() {
+        return MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PUBLIC)
+            .addStatement("this($N)", DEFAULT_CAPACITY_FIELD)
+            .build();
+    }
+
+    private MethodSpec buildCapacityConstructor() {
+        final String argumentName = "initialCapacity";
+        return MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(int.class, argumentName)
+            .beginControlFlow("if ($N < 0)", argumentName)
+            .addStatement("throw new $T($S + $N)", IllegalArgumentException.class, "Negative capacity ",
+                argumentName)
+            .endControlFlow()
+            .addStatement("this.$N = $N", CAPACITY_FIELD, argumentName)
+            .addCode(parameters.initializeColumnsCode(argumentName))
+            .build();
+    }
+
+    private MethodSpec buildAddMethod() {
+        return MethodSpec.methodBuilder("add")
+            .addModifiers(Modifier.PUBLIC)
+            .addParameters(parameters.parameters())
+            .beginControlFlow("if (this.$N == this.$N)", SIZE_FIELD, CAPACITY_FIELD)
+            .addStatement("grow()")
+            .endControlFlow()
+            .addCode(parameters.storeInColumnsCode("this." + SIZE_FIELD))
+            .addStatement("this.$N++", SIZE_FIELD)
+            .build();
+    }
+
+    private MethodSpec buildAddParametersMethod() {
+        final String argumentName = "parameters";
+        return MethodSpec.methodBuilder("add")
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(parametersClassName, argumentName)
+            .addStatement("add($L)", parameters.getterCalls(argumentName))
+            .build();
+    }
+
+    private MethodSpec buildGetMethod() {
+        final String argumentName = "index";
+        final MethodSpec.Builder get = MethodSpec.methodBuilder("get")
+            .addJavadoc("Creates a parameter object of the invocation at index.\n")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(parametersClassName)
+            .addParameter(int.class, argumentName)
+            .addStatement("checkIndex($N)", argumentName)
+            .addStatement("return new $T($L)", parametersClassName, parameters.readFromColumnsCode(argumentName));
+        if (parameters.hasParameterizedTypes()) {
+            get.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                .addMember("value", "$S", "unchecked")
+                .build());
+        }
+        return get.build();
+    }
+
+    private MethodSpec buildAcceptMethod() {
+        final String indexName = "index";
+        final String visitorName = "visitor";
+        return MethodSpec.methodBuilder("accept")
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(int.class, indexName)
+            .addParameter(ArgumentsVisitor.class, visitorName)
+            .addStatement("checkIndex($N)", indexName)
+            .addCode(parameters.visitColumnsCode(visitorName, indexName))
+            .build();
+    }
+
+    private MethodSpec buildSizeMethod() {
+        return MethodSpec.methodBuilder("size")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(int.class)
+            .addStatement("return this.$N", SIZE_FIELD)
+            .build();
+    }
+
+    private MethodSpec buildIsEmptyMethod() {
+        return MethodSpec.methodBuilder("isEmpty")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(boolean.class)
+            .addStatement("return this.$N == 0", SIZE_FIELD)
+            .build();
+    }
+
+    private MethodSpec buildClearMethod() {
+        return MethodSpec.methodBuilder("clear")
+            .addJavadoc("Removes all invocations keeping allocated columns for reuse.\n")
+            .addModifiers(Modifier.PUBLIC)
+            .addCode(parameters.clearColumnsCode("this." + SIZE_FIELD))
+            .addStatement("this.$N = 0", SIZE_FIELD)
+            .build();
+    }
+
+    private MethodSpec buildSpliteratorMethod() {
+        return MethodSpec.methodBuilder("spliterator")
+            .addJavadoc("Splittable spliterator over indexes of invocations added so far.\n")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(Spliterator.OfInt.class)
+            .addStatement("return $T.range(0, this.$N).spliterator()", IntStream.class, SIZE_FIELD)
+            .build();
+    }
+
+    private MethodSpec buildIndicesMethod() {
+        return MethodSpec.methodBuilder("indices")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(IntStream.class)
+            .addStatement("return $T.range(0, this.$N)", IntStream.class, SIZE_FIELD)
+            .build();
+    }
+
+    private MethodSpec buildCheckIndexMethod() {
+        final String argumentName = "index";
+        return MethodSpec.methodBuilder("checkIndex")
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(int.class, argumentName)
+            .beginControlFlow("if ($N < 0 || $N >= this.$N)", argumentName, argumentName, SIZE_FIELD)
+            .addStatement("throw new $T($S + $N + $S + this.$N)", IndexOutOfBoundsException.class, "Index ",
+                argumentName, " out of batch of size ", SIZE_FIELD)
+            .endControlFlow()
+            .build();
+    }
+
+    private MethodSpec buildGrowMethod() {
+        final String capacityName = "newCapacity";
+        return MethodSpec.methodBuilder("grow")
+            .addModifiers(Modifier.PRIVATE)
+            .addStatement("final int $N = $T.max($N, this.$N + (this.$N >> 1))", capacityName, Math.class,
+                DEFAULT_CAPACITY_FIELD, CAPACITY_FIELD, CAPACITY_FIELD)
+            .addCode(parameters.growColumnsCode(capacityName))
+            .addStatement("this.$N = $N", CAPACITY_FIELD, capacityName)
+            .build();
+    }
+}
@@ -0,0 +1,229 @@
+package net.anatolich.parameterobject;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Binary representation of a single parameter type. Produces code writing, reading and measuring values
+ * with {@link BinaryCodecs}.
+ */
+public abstract class BinaryFormat {
+
+    private static final ClassName CODECS = ClassName.get(BinaryCodecs.class);
+    private static final Map<String, String> DECLARED_CODECS = new HashMap<>();
+
+    static {
+        DECLARED_CODECS.put(String.class.getName(), "STRING");
+        DECLARED_CODECS.put(Boolean.class.getName(), "BOOLEAN");
+        DECLARED_CODECS.put(Byte.class.getName(), "BYTE");
+        DECLARED_CODECS.put(Short.class.getName(), "SHORT");
+        DECLARED_CODECS.put(Character.class.getName(), "CHARACTER");
+        DECLARED_CODECS.put(Integer.class.getName(), "INTEGER");
+        DECLARED_CODECS.put(Long.class.getName(), "LONG");
+        DECLARED_CODECS.put(Float.class.getName(), "FLOAT");
+        DECLARED_CODECS.put(Double.class.getName(), "DOUBLE");
+    }
+
+    public static Optional<BinaryFormat> of(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return Optional.of(new PrimitiveFormat(type.getKind()));
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return arrayCodec(((ArrayType) type).getComponentType()).map(CodecFormat::new);
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return Optional.empty();
+        }
+        final DeclaredType declaredType = (DeclaredType) type;
+        final TypeElement element = (TypeElement) declaredType.asElement();
+        final String typeName = element.getQualifiedName().toString();
+        if (element.getKind() == ElementKind.ENUM) {
+            return Optional.of(new EnumFormat(ClassName.get(element)));
+        }
+        if (DECLARED_CODECS.containsKey(typeName)) {
+            return Optional.of(new CodecFormat(DECLARED_CODECS.get(typeName)));
+        }
+        final List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+        if (typeArguments.size() != 1) {
+            return Optional.empty();
+        }
+        final Optional<String> elementCodec = elementCodec(typeArguments.get(0));
+        switch (typeName) {
+            case "java.util.List":
+            case "java.util.Collection":
+                return elementCodec.map(codec -> new CollectionFormat("readList", codec));
+            case "java.util.Set":
+                return elementCodec.map(codec -> new CollectionFormat("readSet", codec));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static Optional<String> arrayCodec(TypeMirror componentType) {
+        if (componentType.getKind().isPrimitive()) {
+            return Optional.of(componentType.getKind().name() + "_ARRAY");
+        }
+        return elementCodec(componentType)
+            .filter("STRING"::equals)
+            .map(codec -> "STRING_ARRAY");
+    }
+
+    private static Optional<String> elementCodec(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return Optional.empty();
+        }
+        final TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return Optional.ofNullable(DECLARED_CODECS.get(element.getQualifiedName().toString()));
+    }
+
+    /**
+     * Statement writing a value into a buffer.
+     */
+    public abstract CodeBlock write(String bufferVariableName, CodeBlock value);
+
+    /**
+     * Expression reading a value from a buffer.
+     */
+    public abstract CodeBlock read(String bufferVariableName);
+
+    /**
+     * Expression evaluating to the number of bytes a value takes.
+     */
+    public abstract CodeBlock size(CodeBlock value);
+
+    private static final class PrimitiveFormat extends BinaryFormat {
+
+        private final TypeKind kind;
+
+        private PrimitiveFormat(TypeKind kind) {
+            this.kind = kind;
+        }
+
+        @Override
+        public CodeBlock write(String bufferVariableName, CodeBlock value) {
+            switch (kind) {
+                case BOOLEAN:
+                    return CodeBlock.of("$N.put((byte) ($L ? 1 : 0));\n", bufferVariableName, value);
+                case BYTE:
+                    return CodeBlock.of("$N.put($L);\n", bufferVariableName, value);
+                default:
+                    return CodeBlock.of("$N.put$L($L);\n", bufferVariableName, Parameter.kindSuffix(kind), value);
+            }
+        }
+
+        @Override
+        public CodeBlock read(String bufferVariableName) {
+            switch (kind) {
+                case BOOLEAN:
+                    return CodeBlock.of("$N.get() != 0", bufferVariableName);
+                case BYTE:
+                    return CodeBlock.of("$N.get()", bufferVariableName);
+                default:
+                    return CodeBlock.of("$N.get$L()", bufferVariableName, Parameter.kindSuffix(kind));
+            }
+        }
+
+        @Override
+        public CodeBlock size(CodeBlock value) {
+            switch (kind) {
+                case BOOLEAN:
+                case BYTE:
+                    return CodeBlock.of("1");
+                case SHORT:
+                case CHAR:
+                    return CodeBlock.of("2");
+                case INT:
+                case FLOAT:
+                    return CodeBlock.of("4");
+                default:
+                    return CodeBlock.of("8");
+            }
+        }
+    }
+
+    private static final class CodecFormat extends BinaryFormat {
+
+        private final String codec;
+
+        private CodecFormat(String codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public CodeBlock write(String bufferVariableName, CodeBlock value) {
+            return CodeBlock.of("$T.$L.write($N, $L);\n", CODECS, codec, bufferVariableName, value);
+        }
+
+        @Override
+        public CodeBlock read(String bufferVariableName) {
+            return CodeBlock.of("$T.$L.read($N)", CODECS, codec, bufferVariableName);
+        }
+
+        @Override
+        public CodeBlock size(CodeBlock value) {
+            return CodeBlock.of("$T.$L.sizeOf($L)", CODECS, codec, value);
+        }
+    }
+
+    private static final class CollectionFormat extends BinaryFormat {
+
+        private final String readMethod;
+        private final String elementCodec;
+
+        private CollectionFormat(String readMethod, String elementCodec) {
+            this.readMethod = readMethod;
+            this.elementCodec = elementCodec;
+        }
+
+        @Override
+        public CodeBlock write(String bufferVariableName, CodeBlock value) {
+            return CodeBlock.of("$T.writeCollection($N, $L, $T.$L);\n",
+                CODECS, bufferVariableName, value, CODECS, elementCodec);
+        }
+
+        @Override
+        public CodeBlock read(String bufferVariableName) {
+            return CodeBlock.of("$T.$L($N, $T.$L)", CODECS, readMethod, bufferVariableName, CODECS, elementCodec);
+        }
+
+        @Override
+        public CodeBlock size(CodeBlock value) {
+            return CodeBlock.of("$T.sizeOfCollection($L, $T.$L)", CODECS, value, CODECS, elementCodec);
+        }
+    }
+
+    private static final class EnumFormat extends BinaryFormat {
+
+        private final TypeName enumType;
+
+        private EnumFormat(TypeName enumType) {
+            this.enumType = enumType;
+        }
+
+        @Override
+        public CodeBlock write(String bufferVariableName, CodeBlock value) {
+            return CodeBlock.of("$T.writeEnum($N, $L);\n", CODECS, bufferVariableName, value);
+        }
+
+        @Override
+        public CodeBlock read(String bufferVariableName) {
+            return CodeBlock.of("$T.readEnum($N, $T.class)", CODECS, bufferVariableName, enumType);
+        }
+
+        @Override
+        public CodeBlock size(CodeBlock value) {
+            return CodeBlock.of("$T.sizeOfEnum($L)", CODECS, value);
+        }
+    }
+}
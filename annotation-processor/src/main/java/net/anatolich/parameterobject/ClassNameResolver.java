@@ -1,6 +1,9 @@
 package net.anatolich.parameterobject;
 
 import com.squareup.javapoet.ClassName;
+import java.util.HashMap;
+import java.util.Map;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.util.Elements;
 import org.apache.commons.lang3.StringUtils;
@@ -8,17 +11,40 @@ import org.apache.commons.lang3.StringUtils;
 public class ClassNameResolver {
 
     private final Elements elements;
+    private final Map<Element, String> packageNames = new HashMap<>();
 
     public ClassNameResolver(Elements elements) {
         this.elements = elements;
     }
 
     public ClassName resolve(ExecutableElement method, ParameterObject annotation) {
+        final Element type = method.getEnclosingElement();
+        final ParameterObjectHolder holder = type.getAnnotation(ParameterObjectHolder.class);
+        if (holder != null) {
+            return holderClassName(type, holder).nestedClass(nestedClassName(method, annotation));
+        }
         return ClassName.get(
             packageName(method, annotation),
             className(method, annotation));
     }
 
+    private ClassName holderClassName(Element type, ParameterObjectHolder holder) {
+        final String packageName = StringUtils.isNotBlank(holder.packageName())
+            ? holder.packageName()
+            : defaultPackageName(type);
+        final String className = StringUtils.isNotBlank(holder.className())
+            ? holder.className()
+            : type.getSimpleName() + "Parameters";
+        return ClassName.get(packageName, className);
+    }
+
+    private String nestedClassName(ExecutableElement method, ParameterObject annotation) {
+        if (StringUtils.isNotBlank(annotation.className())) {
+            return annotation.className();
+        }
+        return String.format("%sParameters", StringUtils.capitalize(method.getSimpleName().toString()));
+    }
+
     private String className(ExecutableElement method, ParameterObject annotation) {
         if (StringUtils.isNotBlank(annotation.className())) {
             return annotation.className();
@@ -42,6 +68,11 @@ public class ClassNameResolver {
     }
 
     private String defaultPackageName(ExecutableElement method) {
-        return elements.getPackageOf(method.getEnclosingElement()).getQualifiedName().toString();
+        return defaultPackageName(method.getEnclosingElement());
+    }
+
+    private String defaultPackageName(Element type) {
+        return packageNames.computeIfAbsent(type,
+            element -> elements.getPackageOf(element).getQualifiedName().toString());
     }
 }
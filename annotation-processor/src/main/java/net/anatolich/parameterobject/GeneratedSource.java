@@ -0,0 +1,77 @@
+package net.anatolich.parameterobject;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.JavaFileObject;
+
+/**
+ * Rendered source of a generated class. Rendering does not touch the compiler model and may run on any thread,
+ * writing goes through the {@link Filer} and must stay on the processing thread.
+ */
+public class GeneratedSource {
+
+    private final String qualifiedName;
+    private final String content;
+    private final List<Element> originatingElements;
+
+    private GeneratedSource(String qualifiedName, String content, List<Element> originatingElements) {
+        this.qualifiedName = qualifiedName;
+        this.content = content;
+        this.originatingElements = originatingElements;
+    }
+
+    /**
+     * Nested types contribute their originating elements to the enclosing type, so a method generating
+     * several nested classes is listed once.
+     */
+    public static GeneratedSource render(ClassName className, TypeSpec type) {
+        return render(className, type, Collections.emptyMap());
+    }
+
+    /**
+     * JavaPoet cannot declare records. Records are built as final classes without instance fields and their
+     * declarations are rewritten into record headers with the given components.
+     *
+     * @param recordComponents record components by simple name of the class, nested classes included
+     * @throws IllegalStateException when a declaration to rewrite is not found exactly once
+     */
+    public static GeneratedSource render(ClassName className, TypeSpec type, Map<String, String> recordComponents) {
+        String content = JavaFile.builder(className.packageName(), type).build().toString();
+        for (Map.Entry<String, String> record : recordComponents.entrySet()) {
+            final Pattern declaration = Pattern.compile(
+                "^([ \\t]*)public (static )?final class " + Pattern.quote(record.getKey()) + "\\b", Pattern.MULTILINE);
+            final Matcher matcher = declaration.matcher(content);
+            int matches = 0;
+            while (matcher.find()) {
+                matches++;
+            }
+            if (matches != 1) {
+                throw new IllegalStateException(String.format(
+                    "Cannot declare %s as a record, found %d class declarations", record.getKey(), matches));
+            }
+            content = matcher.replaceFirst("$1" + Matcher.quoteReplacement(
+                "public record " + record.getKey() + "(" + record.getValue() + ")"));
+        }
+        return new GeneratedSource(className.reflectionName(), content,
+            type.originatingElements.stream().distinct().collect(Collectors.toList()));
+    }
+
+    public void writeTo(Filer filer) throws IOException {
+        final JavaFileObject sourceFile = filer.createSourceFile(qualifiedName,
+            originatingElements.toArray(new Element[0]));
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(content);
+        }
+    }
+}
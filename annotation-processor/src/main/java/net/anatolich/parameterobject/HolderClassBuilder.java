@@ -0,0 +1,184 @@
+package net.anatolich.parameterobject;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Builds a holder of all parameter objects of a type annotated with {@link ParameterObjectHolder}.
+ * Parameter objects and batches become nested static classes sharing the key constants and the factory registry
+ * declared by the holder.
+ */
+public class HolderClassBuilder {
+
+    private final ClassName holderClassName;
+    private final ParameterObjectRegistryBuilder registry;
+    private final List<String> keys = new ArrayList<>();
+    private final List<ParameterObjectClassBuilder> builders = new ArrayList<>();
+    private final List<ParameterObjectClassBuilder> viewed = new ArrayList<>();
+    private final ClassName argumentsViewClassName;
+    private Element holderType;
+
+    public HolderClassBuilder(ClassName holderClassName) {
+        this.holderClassName = holderClassName;
+        this.registry = new ParameterObjectRegistryBuilder(holderClassName);
+        this.argumentsViewClassName = holderClassName.nestedClass("ArgumentsView");
+    }
+
+    public ClassName className() {
+        return holderClassName;
+    }
+
+    /**
+     * Type declaring the holder, failures to generate the holder are reported on it.
+     */
+    public Element holderType() {
+        return holderType;
+    }
+
+    public void add(String key, ParameterObjectClassBuilder builder, ExecutableElement method) {
+        if (holderType == null) {
+            holderType = method.getEnclosingElement();
+        }
+        keys.add(key);
+        builders.add(builder);
+        registry.add(key, builder.className(), method);
+        if (builder.hasArgumentsView()) {
+            builder.shareArgumentsView(argumentsViewClassName, viewed.size());
+            viewed.add(builder);
+        }
+    }
+
+    public int size() {
+        return builders.size();
+    }
+
+    /**
+     * Record components of nested parameter objects generated as records, by simple class name.
+     */
+    public Map<String, String> recordComponents() {
+        final Map<String, String> components = new HashMap<>();
+        for (ParameterObjectClassBuilder builder : builders) {
+            builder.recordComponents().ifPresent(c -> components.put(builder.className().simpleName(), c));
+        }
+        return components;
+    }
+
+    public TypeSpec build() {
+        final TypeSpec.Builder holderClass = TypeSpec.classBuilder(holderClassName)
+            .addJavadoc("Parameter objects of a single type generated as nested classes.\n")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .addStatement("throw new $T($S)", UnsupportedOperationException.class, "must not be instantiated")
+                .build());
+        for (int i = 0; i < builders.size(); i++) {
+            holderClass.addField(FieldSpec.builder(String.class, keyConstantName(builders.get(i).className()))
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", keys.get(i))
+                .build());
+        }
+        registry.addRegistryMembers(holderClass);
+        if (!viewed.isEmpty()) {
+            holderClass.addType(buildArgumentsViewClass());
+        }
+        for (ParameterObjectClassBuilder builder : builders) {
+            holderClass.addType(builder.build());
+            builder.batch().ifPresent(batch -> holderClass.addType(batch.build()));
+        }
+        return holderClass.build();
+    }
+
+    /**
+     * A single {@code toMap()} view class for all nested parameter objects. Nested classes are separate class files,
+     * so sharing the view saves loading a view class per parameter object.
+     */
+    private TypeSpec buildArgumentsViewClass() {
+        final String typeName = "type";
+        final String parametersName = "parameters";
+        final String namesName = "names";
+        final String keyName = "name";
+        final String indexName = "index";
+        final MethodSpec constructor = MethodSpec.constructorBuilder()
+            .addParameter(int.class, typeName)
+            .addParameter(String[].class, namesName)
+            .addParameter(Object.class, parametersName)
+            .addStatement("super($N)", namesName)
+            .addStatement("this.$N = $N", typeName, typeName)
+            .addStatement("this.$N = $N", parametersName, parametersName)
+            .build();
+        final MethodSpec.Builder indexOf = MethodSpec.methodBuilder("indexOf")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .returns(int.class)
+            .addParameter(Object.class, keyName)
+            .beginControlFlow("if (!($N instanceof $T))", keyName, String.class)
+            .addStatement("return -1")
+            .endControlFlow()
+            .beginControlFlow("switch (this.$N)", typeName);
+        final MethodSpec.Builder valueAt = MethodSpec.methodBuilder("valueAt")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .returns(Object.class)
+            .addParameter(int.class, indexName)
+            .beginControlFlow("switch (this.$N)", typeName);
+        final List<MethodSpec> helpers = new ArrayList<>();
+        for (int type = 0; type < viewed.size(); type++) {
+            final ParameterObjectClassBuilder builder = viewed.get(type);
+            indexOf.addCode("case $L:\n$>return indexOf$L(($T) $N);\n$<", type, type, String.class, keyName);
+            valueAt.addCode("case $L:\n$>return valueAt$L(($T) this.$N, $N);\n$<", type, type,
+                builder.className(), parametersName, indexName);
+            helpers.add(MethodSpec.methodBuilder("indexOf" + type)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(int.class)
+                .addParameter(String.class, keyName)
+                .beginControlFlow("switch ($N)", keyName)
+                .addCode(builder.nameToIndexCases())
+                .addCode("default:\n$>return -1;\n$<")
+                .endControlFlow()
+                .build());
+            helpers.add(MethodSpec.methodBuilder("valueAt" + type)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(Object.class)
+                .addParameter(builder.className(), parametersName)
+                .addParameter(int.class, indexName)
+                .beginControlFlow("switch ($N)", indexName)
+                .addCode(builder.indexToGetterCases(parametersName))
+                .addCode("default:\n$>throw new $T($S + $N);\n$<", IndexOutOfBoundsException.class,
+                    "No parameter at ", indexName)
+                .endControlFlow()
+                .build());
+        }
+        indexOf.addCode("default:\n$>return -1;\n$<").endControlFlow();
+        valueAt.addCode("default:\n$>throw new $T($S + this.$N);\n$<", IllegalStateException.class,
+            "Unknown parameter object type ", typeName).endControlFlow();
+        return TypeSpec.classBuilder(argumentsViewClassName)
+            .addModifiers(Modifier.STATIC, Modifier.FINAL)
+            .superclass(ArgumentsMap.viewSuperclass())
+            .addField(int.class, typeName, Modifier.PRIVATE, Modifier.FINAL)
+            .addField(Object.class, parametersName, Modifier.PRIVATE, Modifier.FINAL)
+            .addMethod(constructor)
+            .addMethod(indexOf.build())
+            .addMethod(valueAt.build())
+            .addMethods(helpers)
+            .build();
+    }
+
+    /**
+     * Constant holding the registry key of a nested class, e.g. {@code CREATE_USER_PARAMETERS_KEY}.
+     */
+    static String keyConstantName(ClassName nestedClassName) {
+        return nestedClassName.simpleName()
+            .replaceAll("([a-z0-9])([A-Z])", "$1_$2")
+            .toUpperCase(Locale.ROOT) + "_KEY";
+    }
+}
@@ -0,0 +1,91 @@
+package net.anatolich.parameterobject;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Direct call of an annotated method with the fields of its parameter object. Available when the method
+ * and its declaring types are accessible from the parameter object package and are not generic.
+ */
+public class Invocation {
+
+    private final ClassName targetClassName;
+    private final String methodName;
+    private final boolean isStatic;
+    private final TypeName returnType;
+    private final List<TypeName> thrownTypes;
+
+    private Invocation(ExecutableElement method) {
+        this.targetClassName = ClassName.get((TypeElement) method.getEnclosingElement());
+        this.methodName = method.getSimpleName().toString();
+        this.isStatic = method.getModifiers().contains(Modifier.STATIC);
+        this.returnType = TypeName.get(method.getReturnType());
+        this.thrownTypes = method.getThrownTypes().stream()
+            .map(TypeName::get)
+            .collect(Collectors.toList());
+    }
+
+    public static Optional<Invocation> of(ExecutableElement method, String packageName) {
+        if (!method.getTypeParameters().isEmpty() || !isAccessible(method, packageName)) {
+            return Optional.empty();
+        }
+        for (Element type = method.getEnclosingElement(); type.getKind() != ElementKind.PACKAGE;
+            type = type.getEnclosingElement()) {
+            if (!type.getKind().isClass() && !type.getKind().isInterface()) {
+                return Optional.empty();
+            }
+            if (!((TypeElement) type).getTypeParameters().isEmpty() || !isAccessible(type, packageName)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new Invocation(method));
+    }
+
+    private static boolean isAccessible(Element element, String packageName) {
+        if (element.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return element.getModifiers().contains(Modifier.PUBLIC) || packageOf(element).equals(packageName);
+    }
+
+    private static String packageOf(Element element) {
+        Element enclosing = element;
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return ((PackageElement) enclosing).getQualifiedName().toString();
+    }
+
+    /**
+     * {@code invoke(Target)} for instance methods or {@code invoke()} for static methods.
+     */
+    public MethodSpec invokeMethod(CodeBlock arguments) {
+        final String targetName = "target";
+        final MethodSpec.Builder invoke = MethodSpec.methodBuilder("invoke")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(returnType)
+            .addExceptions(thrownTypes);
+        final CodeBlock call;
+        if (isStatic) {
+            call = CodeBlock.of("$T.$N($L)", targetClassName, methodName, arguments);
+        } else {
+            invoke.addParameter(targetClassName, targetName);
+            call = CodeBlock.of("$N.$N($L)", targetName, methodName, arguments);
+        }
+        if (returnType.equals(TypeName.VOID)) {
+            return invoke.addStatement("$L", call).build();
+        }
+        return invoke.addStatement("return $L", call).build();
+    }
+}
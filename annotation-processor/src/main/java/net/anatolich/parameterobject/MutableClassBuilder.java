@@ -0,0 +1,157 @@
+package net.anatolich.parameterobject;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Builds a mutable flyweight nested in a parameter object. Instances are taken from and returned to a thread-local
+ * {@link MutablePool}, so capturing arguments does not allocate once the pool is warmed up.
+ */
+public class MutableClassBuilder {
+
+    private static final String POOL_FIELD = "POOL";
+    private static final String RELEASED_FIELD = "mutableReleased";
+    private static final int POOL_SIZE_PER_THREAD = 16;
+
+    private final ClassName mutableClassName;
+    private final ClassName parametersClassName;
+    private final Parameters parameters;
+    private final CodeBlock guard;
+
+    public MutableClassBuilder(ClassName parametersClassName, Parameters parameters) {
+        this.mutableClassName = parametersClassName.nestedClass("Mutable");
+        this.parametersClassName = parametersClassName;
+        this.parameters = parameters;
+        this.guard = CodeBlock.of("assert !this.$N : $S;\n", RELEASED_FIELD, "Mutable parameters used after release");
+    }
+
+    public ClassName className() {
+        return mutableClassName;
+    }
+
+    public TypeSpec build() {
+        return TypeSpec.classBuilder(mutableClassName)
+            .addJavadoc("Reusable parameters of {@link $T}. Not thread-safe, an instance must not be used after\n"
+                + "{@link #release()}, which is checked when assertions are enabled.\n", parametersClassName)
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .addField(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(MutablePool.class), mutableClassName),
+                POOL_FIELD)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.create($T::new, $L)", MutablePool.class, mutableClassName, POOL_SIZE_PER_THREAD)
+                .build())
+            .addFields(parameters.mutableFields())
+            .addField(boolean.class, RELEASED_FIELD, Modifier.PRIVATE)
+            .addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build())
+            .addMethod(buildAcquireMethod())
+            .addMethod(buildReleaseMethod())
+            .addMethod(buildSetMethod())
+            .addMethods(parameters.mutableSetters(mutableClassName, guard))
+            .addMethods(parameters.mutableGetters(guard))
+            .addMethod(buildCopyFromMethod())
+            .addMethod(buildToImmutableMethod())
+            .addMethod(buildToMapMethod())
+            .addMethod(buildAcceptMethod())
+            .addMethod(buildResetMethod())
+            .build();
+    }
+
+    private MethodSpec buildAcquireMethod() {
+        final String instanceName = "instance";
+        return MethodSpec.methodBuilder("acquire")
+            .addJavadoc("@return a pooled instance of the current thread with all parameters reset\n")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(mutableClassName)
+            .addStatement("final $T $N = $N.acquire()", mutableClassName, instanceName, POOL_FIELD)
+            .addStatement("$N.$N = false", instanceName, RELEASED_FIELD)
+            .addStatement("return $N", instanceName)
+            .build();
+    }
+
+    private MethodSpec buildReleaseMethod() {
+        return MethodSpec.methodBuilder("release")
+            .addJavadoc("Resets parameters and returns this instance to the pool of the current thread.\n"
+                + "@throws IllegalStateException when this instance was already released\n")
+            .addModifiers(Modifier.PUBLIC)
+            .beginControlFlow("if (this.$N)", RELEASED_FIELD)
+            .addStatement("throw new $T($S)", IllegalStateException.class, "Mutable parameters released twice")
+            .endControlFlow()
+            .addStatement("reset()")
+            .addStatement("this.$N = true", RELEASED_FIELD)
+            .addStatement("$N.release(this)", POOL_FIELD)
+            .build();
+    }
+
+    private MethodSpec buildSetMethod() {
+        return MethodSpec.methodBuilder("set")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(mutableClassName)
+            .addParameters(parameters.parameters())
+            .addCode(guard)
+            .addCode(parameters.assignAsIsCode())
+            .addStatement("return this")
+            .build();
+    }
+
+    private MethodSpec buildCopyFromMethod() {
+        final String argumentName = "parameters";
+        return MethodSpec.methodBuilder("copyFrom")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(mutableClassName)
+            .addParameter(parametersClassName, argumentName)
+            .addCode(guard)
+            .addCode(parameters.mutableCopyFromCode(argumentName))
+            .addStatement("return this")
+            .build();
+    }
+
+    private MethodSpec buildToImmutableMethod() {
+        return MethodSpec.methodBuilder("toImmutable")
+            .addJavadoc("Creates a parameter object from current values, copied according to the copy policy.\n")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(parametersClassName)
+            .addCode(guard)
+            .addStatement("return new $T($L)", parametersClassName, parameters.fieldReferences())
+            .build();
+    }
+
+    private MethodSpec buildToMapMethod() {
+        final String resultVariable = "result";
+        return MethodSpec.methodBuilder("toMap")
+            .addJavadoc("Copies current values to a new map.\n")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(ArgumentsMap.type())
+            .addCode(guard)
+            .addStatement(ArgumentsMap.initialize(resultVariable))
+            .addCode(parameters.addToMapCode(resultVariable))
+            .addStatement(ArgumentsMap.returnResult(resultVariable))
+            .build();
+    }
+
+    private MethodSpec buildAcceptMethod() {
+        final String visitorName = "visitor";
+        return MethodSpec.methodBuilder("accept")
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(ArgumentsVisitor.class, visitorName)
+            .addCode(guard)
+            .addCode(parameters.visitCode(visitorName))
+            .build();
+    }
+
+    private MethodSpec buildResetMethod() {
+        return MethodSpec.methodBuilder("reset")
+            .addJavadoc("Clears all parameters so that the instance does not retain previous arguments.\n")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(mutableClassName)
+            .addCode(guard)
+            .addCode(parameters.mutableResetCode())
+            .addStatement("return this")
+            .build();
+    }
+}
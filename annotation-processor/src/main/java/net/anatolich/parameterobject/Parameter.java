@@ -1,58 +1,613 @@
 package net.anatolich.parameterobject;
 
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.Modifier;
-import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import org.apache.commons.lang3.StringUtils;
 
 public class Parameter {
 
-    private final VariableElement parameter;
+    private static final Set<String> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+        String.class.getName(), Boolean.class.getName(), Byte.class.getName(), Short.class.getName(),
+        Character.class.getName(), Integer.class.getName(), Long.class.getName(), Float.class.getName(),
+        Double.class.getName()));
 
-    public Parameter(VariableElement parameter) {
-        this.parameter = parameter;
+    private final String name;
+    private final TypeName type;
+    private final TypeKind kind;
+    private final Optional<BinaryFormat> binaryFormat;
+    private final ParameterCopy copy;
+    private final boolean sized;
+    private final boolean immutable;
+
+    public Parameter(VariableElement parameter, CopyPolicy defaultCopyPolicy) {
+        this.name = parameter.getSimpleName().toString();
+        this.type = TypeName.get(parameter.asType());
+        this.kind = parameter.asType().getKind();
+        this.binaryFormat = BinaryFormat.of(parameter.asType());
+        final CopyParameter copyParameter = parameter.getAnnotation(CopyParameter.class);
+        this.copy = ParameterCopy.of(parameter.asType(),
+            copyParameter == null ? defaultCopyPolicy : copyParameter.value());
+        this.sized = kind == TypeKind.ARRAY || isCollectionOrMap(parameter.asType());
+        this.immutable = kind.isPrimitive() || isImmutable(parameter.asType());
+    }
+
+    private static boolean isImmutable(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return element.getKind() == ElementKind.ENUM
+            || IMMUTABLE_TYPES.contains(element.getQualifiedName().toString());
+    }
+
+    private static boolean isCollectionOrMap(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        final String name = element.getQualifiedName().toString();
+        if (name.equals("java.util.Collection") || name.equals("java.util.Map")) {
+            return true;
+        }
+        return element.getInterfaces().stream().anyMatch(Parameter::isCollectionOrMap)
+            || isCollectionOrMap(element.getSuperclass());
+    }
+
+    public String name() {
+        return name;
     }
 
     public MethodSpec getter() {
-        final String getterName = String.format("get%s", StringUtils.capitalize(parameter.getSimpleName().toString()));
-        return MethodSpec.methodBuilder(getterName)
-            .returns(TypeName.get(parameter.asType()))
-            .addStatement("return $N", parameter.getSimpleName())
+        return MethodSpec.methodBuilder(getterName())
+            .returns(type)
+            .addStatement("return $L", publishedValue())
             .addModifiers(Modifier.PUBLIC)
             .build();
     }
 
+    public CodeBlock getterCall(String variableName) {
+        return CodeBlock.of("$N.$N()", variableName, getterName());
+    }
+
+    private String getterName() {
+        return String.format("get%s", StringUtils.capitalize(name));
+    }
+
     public FieldSpec field() {
-        return FieldSpec.builder(TypeName.get(parameter.asType()), parameter.getSimpleName().toString())
+        return FieldSpec.builder(type, name)
             .addModifiers(Modifier.PRIVATE)
             .addModifiers(Modifier.FINAL)
             .build();
     }
 
     public ParameterSpec parameter() {
-        return ParameterSpec.builder(
-            TypeName.get(parameter.asType()), parameter.getSimpleName().toString())
+        return ParameterSpec.builder(type, name)
             .build();
     }
 
     public CodeBlock addToMapCode(String mapVariableName) {
-        final Name parameterName = parameter.getSimpleName();
-        return CodeBlock.of("$N.put($S, $N);\n", mapVariableName, parameterName, parameterName);
+        return CodeBlock.of("$N.put($S, $L);\n", mapVariableName, name, publishedValue());
     }
 
     public CodeBlock readFromMapCode(String mapVariableName) {
-        final Name parameterName = parameter.getSimpleName();
-        final TypeName parameterType = TypeName.get(parameter.asType());
-        return CodeBlock.of("this.$N = ($T) $N.get($S);\n", parameterName, parameterType, mapVariableName, parameterName);
+        return CodeBlock.of("this.$N = $L;\n", name,
+            copy.store(CodeBlock.of("($T) $N.get($S)", type, mapVariableName, name)));
+    }
+
+    public CodeBlock castFromMapCode(String mapVariableName) {
+        return CodeBlock.of("($T) $N.get($S)", type, mapVariableName, name);
+    }
+
+    /**
+     * Record component declaration. Types are fully qualified because the record header is written
+     * after JavaPoet has chosen imports.
+     */
+    public String recordComponent() {
+        return type.withoutAnnotations() + " " + name;
+    }
+
+    /**
+     * Record accessor returning the published value when the copy policy copies or wraps values on read,
+     * the implicit accessor would return the field itself.
+     */
+    public Optional<MethodSpec> recordAccessor() {
+        if (publishedValue().equals(fieldReference())) {
+            return Optional.empty();
+        }
+        return Optional.of(MethodSpec.methodBuilder(name)
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(type)
+            .addStatement("return $L", publishedValue())
+            .build());
+    }
+
+    public CodeBlock readFromArrayCode(String arrayVariableName, int index) {
+        return CodeBlock.of("($T) $N[$L]", type, arrayVariableName, index);
+    }
+
+    public CodeBlock fieldReference() {
+        return CodeBlock.of("this.$N", name);
+    }
+
+    /**
+     * Field value as handed out to readers, copied when the copy policy requires it.
+     */
+    public CodeBlock publishedValue() {
+        return copy.read(fieldReference());
+    }
+
+    public TypeKind kind() {
+        return kind;
+    }
+
+    public CodeBlock nameToValueCase() {
+        return CodeBlock.of("case $S:\n$>return this.$N;\n$<", name, name);
+    }
+
+    public CodeBlock visitCode(String visitorVariableName) {
+        final String callback = kind.isPrimitive() ? kindSuffix(kind) : "Object";
+        return CodeBlock.of("$N.visit$L($S, $L);\n", visitorVariableName, callback, name, publishedValue());
+    }
+
+    public boolean hasBinaryFormat() {
+        return binaryFormat.isPresent();
+    }
+
+    public String schemaEntry() {
+        return name + ":" + type;
+    }
+
+    public CodeBlock binaryWriteCode(String bufferVariableName) {
+        return binaryFormat().write(bufferVariableName, fieldReference());
+    }
+
+    public CodeBlock binaryReadCode(String bufferVariableName) {
+        return binaryFormat().read(bufferVariableName);
+    }
+
+    public CodeBlock binarySizeCode() {
+        return binaryFormat().size(fieldReference());
+    }
+
+    private BinaryFormat binaryFormat() {
+        return binaryFormat.orElseThrow(() -> new IllegalStateException("No binary format for parameter " + name));
+    }
+
+    static String kindSuffix(TypeKind kind) {
+        return StringUtils.capitalize(kind.name().toLowerCase(Locale.ROOT));
+    }
+
+    static TypeName primitiveType(TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return TypeName.BOOLEAN;
+            case BYTE:
+                return TypeName.BYTE;
+            case SHORT:
+                return TypeName.SHORT;
+            case CHAR:
+                return TypeName.CHAR;
+            case INT:
+                return TypeName.INT;
+            case LONG:
+                return TypeName.LONG;
+            case FLOAT:
+                return TypeName.FLOAT;
+            case DOUBLE:
+                return TypeName.DOUBLE;
+            default:
+                throw new IllegalArgumentException("Not a primitive type: " + kind);
+        }
+    }
+
+    public CodeBlock nameToIndexCase(int index) {
+        return CodeBlock.of("case $S:\n$>return $L;\n$<", name, index);
+    }
+
+    public CodeBlock indexToValueCase(int index, ClassName ownerClassName) {
+        return CodeBlock.of("case $L:\n$>return $L;\n$<", index,
+            copy.read(CodeBlock.of("$T.this.$N", ownerClassName, name)));
+    }
+
+    /**
+     * Statements writing the parameter as a JSON object member. Member names are Java identifiers,
+     * so they are emitted as literals that need no escaping at runtime.
+     */
+    public CodeBlock jsonWriteCode(String appendableVariableName, boolean first, boolean redacted) {
+        final String memberName = String.format("%s\"%s\":", first ? "{" : ",", name);
+        final CodeBlock.Builder code = CodeBlock.builder()
+            .addStatement("$N.append($S)", appendableVariableName, memberName);
+        if (redacted) {
+            return code.addStatement("$N.append($T.REDACTED)", appendableVariableName, Json.class).build();
+        }
+        return code.addStatement("$T.writeValue($N, this.$N)", Json.class, appendableVariableName, name).build();
+    }
+
+    public FieldSpec columnField() {
+        return FieldSpec.builder(columnType(), columnName())
+            .addModifiers(Modifier.PRIVATE)
+            .build();
+    }
+
+    public CodeBlock initializeColumnCode(String capacityVariableName) {
+        return CodeBlock.of("this.$N = new $T[$N];\n", columnName(), columnComponentType(), capacityVariableName);
+    }
+
+    public CodeBlock growColumnCode(String capacityVariableName) {
+        return CodeBlock.of("this.$N = $T.copyOf(this.$N, $N);\n", columnName(), Arrays.class, columnName(),
+            capacityVariableName);
+    }
+
+    public CodeBlock storeInColumnCode(String indexExpression) {
+        return CodeBlock.of("this.$N[$L] = $L;\n", columnName(), indexExpression,
+            copy.store(CodeBlock.of("$N", name)));
+    }
+
+    public CodeBlock clearColumnCode(String sizeExpression) {
+        if (kind.isPrimitive()) {
+            return CodeBlock.of("");
+        }
+        return CodeBlock.of("$T.fill(this.$N, 0, $L, null);\n", Arrays.class, columnName(), sizeExpression);
+    }
+
+    public CodeBlock readFromColumnCode(String indexVariableName) {
+        if (kind.isPrimitive()) {
+            return CodeBlock.of("this.$N[$N]", columnName(), indexVariableName);
+        }
+        return copy.read(CodeBlock.of("(($T) this.$N[$N])", type, columnName(), indexVariableName));
+    }
+
+    public MethodSpec columnGetter(String indexVariableName) {
+        final MethodSpec.Builder getter = MethodSpec.methodBuilder(getterName())
+            .addModifiers(Modifier.PUBLIC)
+            .returns(type)
+            .addParameter(int.class, indexVariableName)
+            .addStatement("checkIndex($N)", indexVariableName)
+            .addStatement("return $L", readFromColumnCode(indexVariableName));
+        if (isParameterized()) {
+            getter.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                .addMember("value", "$S", "unchecked")
+                .build());
+        }
+        return getter.build();
+    }
+
+    public CodeBlock visitColumnCode(String visitorVariableName, String indexVariableName) {
+        final String callback = kind.isPrimitive() ? kindSuffix(kind) : "Object";
+        return CodeBlock.of("$N.visit$L($S, $L);\n", visitorVariableName, callback, name,
+            kind.isPrimitive()
+                ? CodeBlock.of("this.$N[$N]", columnName(), indexVariableName)
+                : copy.read(CodeBlock.of("this.$N[$N]", columnName(), indexVariableName)));
+    }
+
+    /**
+     * Expression comparing the field with the same field of another parameter object.
+     */
+    public CodeBlock equalsCode(String otherVariableName) {
+        switch (kind) {
+            case FLOAT:
+                return CodeBlock.of("$T.compare(this.$N, $N.$N) == 0", Float.class, name, otherVariableName, name);
+            case DOUBLE:
+                return CodeBlock.of("$T.compare(this.$N, $N.$N) == 0", Double.class, name, otherVariableName, name);
+            case ARRAY:
+                return CodeBlock.of("$T.equals(this.$N, $N.$N)", Arrays.class, name, otherVariableName, name);
+            default:
+                if (kind.isPrimitive()) {
+                    return CodeBlock.of("this.$N == $N.$N", name, otherVariableName, name);
+                }
+                return CodeBlock.of("$T.equals(this.$N, $N.$N)", Objects.class, name, otherVariableName, name);
+        }
+    }
+
+    /**
+     * Statement setting the parameter bit in a change mask when the field differs from another parameter object.
+     */
+    public CodeBlock diffCode(String otherVariableName, String maskVariableName, int index) {
+        return CodeBlock.builder()
+            .beginControlFlow("if (!($L))", equalsCode(otherVariableName))
+            .addStatement("$N |= $L", maskVariableName, changeBit(index))
+            .endControlFlow()
+            .build();
+    }
+
+    /**
+     * Visits the parameter when its bit is set in a change mask.
+     */
+    public CodeBlock visitChangeCode(String visitorVariableName, String maskVariableName, int index) {
+        return CodeBlock.builder()
+            .beginControlFlow("if (($N & $L) != 0)", maskVariableName, changeBit(index))
+            .add(visitCode(visitorVariableName))
+            .endControlFlow()
+            .build();
+    }
+
+    private static CodeBlock changeBit(int index) {
+        return CodeBlock.of("$L", index == 0 ? "1L" : "1L << " + index);
+    }
+
+    public CodeBlock hashCodeCode() {
+        if (kind == TypeKind.ARRAY) {
+            return CodeBlock.of("$T.hashCode(this.$N)", Arrays.class, name);
+        }
+        if (kind.isPrimitive()) {
+            return CodeBlock.of("$T.hashCode(this.$N)", type.box(), name);
+        }
+        return CodeBlock.of("$T.hashCode(this.$N)", Objects.class, name);
+    }
+
+    /**
+     * Arrays, collections and maps have their sizes reported to metrics.
+     */
+    public boolean isSized() {
+        return sized;
+    }
+
+    /**
+     * Expression evaluating to the length or size of the field, {@code 0} for {@code null}.
+     */
+    public CodeBlock sizeCode() {
+        final String size = kind == TypeKind.ARRAY ? "length" : "size()";
+        return CodeBlock.of("this.$N == null ? 0 : this.$N.$L", name, name, size);
+    }
+
+    /**
+     * Bytes the field takes in the object layout, assuming 4 byte compressed references.
+     */
+    public int fieldSizeBytes() {
+        switch (kind) {
+            case BOOLEAN:
+            case BYTE:
+                return 1;
+            case SHORT:
+            case CHAR:
+                return 2;
+            case LONG:
+            case DOUBLE:
+                return 8;
+            default:
+                return 4;
+        }
+    }
+
+    /**
+     * Expression estimating bytes retained by the referenced value, empty for primitives stored in the field.
+     */
+    public Optional<CodeBlock> retainedSizeCode() {
+        if (kind.isPrimitive()) {
+            return Optional.empty();
+        }
+        return Optional.of(CodeBlock.of("$T.of(this.$N)", SizeEstimates.class, name));
+    }
+
+    /**
+     * Fields of a lazily resolved parameter: the cached value and whether it has been read from the map.
+     */
+    public List<FieldSpec> lazyFields() {
+        return Arrays.asList(
+            FieldSpec.builder(type, name, Modifier.PRIVATE).build(),
+            FieldSpec.builder(boolean.class, lazyResolvedName(), Modifier.PRIVATE).build());
+    }
+
+    /**
+     * Getter reading the parameter from a map on first call. Values of a wrong type fail with the parameter name
+     * instead of a bare {@link ClassCastException}, missing primitive values fail instead of unboxing {@code null}.
+     */
+    /**
+     * Reads, checks and stores the parameter of a lazy class, called once before the value is first used.
+     */
+    public MethodSpec lazyResolver(String mapFieldName) {
+        final String valueName = "value";
+        final TypeName checkedType = kind.isPrimitive() ? type.box() : erasure(type.withoutAnnotations());
+        final MethodSpec.Builder resolver = MethodSpec.methodBuilder(lazyResolverName())
+            .addModifiers(Modifier.PRIVATE)
+            .addStatement("final $T $N = this.$N.get($S)", Object.class, valueName, mapFieldName, name);
+        if (kind.isPrimitive()) {
+            resolver.beginControlFlow("if ($N == null)", valueName)
+                .addStatement("throw new $T($S)", IllegalArgumentException.class,
+                    String.format("Parameter %s is missing", name))
+                .endControlFlow()
+                .beginControlFlow("if (!($N instanceof $T))", valueName, checkedType);
+        } else {
+            resolver.beginControlFlow("if ($N != null && !($N instanceof $T))", valueName, valueName, checkedType);
+        }
+        resolver
+            .addStatement("throw new $T($S + $N.getClass().getName())", IllegalArgumentException.class,
+                String.format("Parameter %s must be %s but was ", name, checkedType), valueName)
+            .endControlFlow()
+            .addStatement("this.$N = $L", name, copy.store(CodeBlock.of("($T) $N", type, valueName)))
+            .addStatement("this.$N = true", lazyResolvedName());
+        if (isParameterized()) {
+            resolver.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                .addMember("value", "$S", "unchecked")
+                .build());
+        }
+        return resolver.build();
+    }
+
+    public MethodSpec lazyGetter() {
+        return MethodSpec.methodBuilder(getterName())
+            .addModifiers(Modifier.PUBLIC)
+            .returns(type)
+            .addCode(lazyResolution())
+            .addStatement("return $L", publishedValue())
+            .build();
+    }
+
+    /**
+     * Resolves the parameter of a lazy class unless it was already read, leaving the stored value in its field.
+     */
+    public CodeBlock lazyResolution() {
+        return CodeBlock.builder()
+            .beginControlFlow("if (!this.$N)", lazyResolvedName())
+            .addStatement("$N()", lazyResolverName())
+            .endControlFlow()
+            .build();
+    }
+
+    private String lazyResolverName() {
+        return "resolve" + StringUtils.capitalize(name);
+    }
+
+    private String lazyResolvedName() {
+        return name + "Resolved";
+    }
+
+    /**
+     * Non-final field of a mutable flyweight or a builder.
+     */
+    public FieldSpec mutableField() {
+        return FieldSpec.builder(type, name, Modifier.PRIVATE).build();
+    }
+
+    public MethodSpec mutableGetter(CodeBlock guard) {
+        return MethodSpec.methodBuilder(getterName())
+            .addModifiers(Modifier.PUBLIC)
+            .returns(type)
+            .addCode(guard)
+            .addStatement("return this.$N", name)
+            .build();
+    }
+
+    public MethodSpec mutableSetter(ClassName mutableClassName, CodeBlock guard) {
+        return MethodSpec.methodBuilder(String.format("set%s", StringUtils.capitalize(name)))
+            .addModifiers(Modifier.PUBLIC)
+            .returns(mutableClassName)
+            .addParameter(parameter())
+            .addCode(guard)
+            .addCode(assignAsIsCode())
+            .addStatement("return this")
+            .build();
+    }
+
+    public CodeBlock assignAsIsCode() {
+        return CodeBlock.of("this.$N = $N;\n", name, name);
+    }
+
+    public CodeBlock mutableCopyFromCode(String parametersVariableName) {
+        return CodeBlock.of("this.$N = $L;\n", name, getterCall(parametersVariableName));
+    }
+
+    /**
+     * Clears the field of a mutable flyweight so that a pooled instance does not retain the previous value.
+     */
+    public CodeBlock mutableResetCode() {
+        if (kind == TypeKind.BOOLEAN) {
+            return CodeBlock.of("this.$N = false;\n", name);
+        }
+        return CodeBlock.of("this.$N = $L;\n", name, kind.isPrimitive() ? "0" : "null");
+    }
+
+    /**
+     * Whether the copy policy stores values as given, so that a stored value can be passed to the constructor
+     * again without being copied.
+     */
+    public boolean storesAsIs() {
+        return storedValue().equals(CodeBlock.of("$N", name));
+    }
+
+    /**
+     * Parameter value as stored in the field, copied or wrapped when the copy policy requires it.
+     */
+    public CodeBlock storedValue() {
+        return copy.store(CodeBlock.of("$N", name));
+    }
+
+    public MethodSpec withMethod(ClassName ownerClassName, CodeBlock construction) {
+        return MethodSpec.methodBuilder(String.format("with%s", StringUtils.capitalize(name)))
+            .addJavadoc("@return a parameter object with {@code $L} replaced and other values shared with this one\n",
+                name)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(ownerClassName)
+            .addParameter(parameter())
+            .addStatement("return $L", construction)
+            .build();
+    }
+
+    /**
+     * Fluent builder setter named after the parameter.
+     *
+     * @param store whether the value is stored by the setter rather than by the constructor called on build
+     */
+    public MethodSpec builderSetter(ClassName builderClassName, boolean store) {
+        return MethodSpec.methodBuilder(name)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(builderClassName)
+            .addParameter(parameter())
+            .addStatement("this.$N = $L", name, store ? storedValue() : CodeBlock.of("$N", name))
+            .addStatement("return this")
+            .build();
+    }
+
+    public CodeBlock copyFieldToCode(String variableName) {
+        return CodeBlock.of("$N.$N = this.$N;\n", variableName, name, name);
+    }
+
+    /**
+     * Expression creating the {@link ParameterDescriptor} of the parameter.
+     */
+    public CodeBlock descriptorCode(int index) {
+        final TypeName declaredType = type.withoutAnnotations();
+        return CodeBlock.of("$T.of($L, $S, $T.class, $S)", ParameterDescriptor.class, index, name,
+            erasure(declaredType), declaredType.toString());
+    }
+
+    private static TypeName erasure(TypeName type) {
+        if (type instanceof ParameterizedTypeName) {
+            return ((ParameterizedTypeName) type).rawType;
+        }
+        if (type instanceof ArrayTypeName) {
+            return ArrayTypeName.of(erasure(((ArrayTypeName) type).componentType));
+        }
+        return type;
+    }
+
+    /**
+     * Whether values of the parameter cannot change once constructed: primitives, boxed primitives, strings
+     * and enums.
+     */
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    public boolean isParameterized() {
+        return type instanceof ParameterizedTypeName;
+    }
+
+    private String columnName() {
+        return name + "Column";
+    }
+
+    private TypeName columnComponentType() {
+        return kind.isPrimitive() ? type : TypeName.OBJECT;
+    }
+
+    private TypeName columnType() {
+        return ArrayTypeName.of(columnComponentType());
     }
 
     public CodeBlock assignParameterToField() {
-        final Name parameterName = parameter.getSimpleName();
-        return CodeBlock.of("this.$N = $N;\n", parameterName, parameterName);
+        return CodeBlock.of("this.$N = $L;\n", name, copy.store(CodeBlock.of("$N", name)));
     }
 }
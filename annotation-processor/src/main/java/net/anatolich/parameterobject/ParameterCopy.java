@@ -0,0 +1,67 @@
+package net.anatolich.parameterobject;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Applies a {@link CopyPolicy} to a parameter: code storing a value in a field and code publishing a field value
+ * through getters, maps, arguments arrays and visitors.
+ */
+public class ParameterCopy {
+
+    private static final ClassName COPIES = ClassName.get(Copies.class);
+    private static final Set<String> COLLECTION_TYPES = new HashSet<>(Arrays.asList(
+        "java.util.List", "java.util.Set", "java.util.Collection", "java.util.Map"));
+
+    private final CopyPolicy policy;
+    private final boolean array;
+
+    private ParameterCopy(CopyPolicy policy, boolean array) {
+        this.policy = policy;
+        this.array = array;
+    }
+
+    public static ParameterCopy of(TypeMirror type, CopyPolicy policy) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return new ParameterCopy(policy, true);
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            final TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+            if (COLLECTION_TYPES.contains(element.getQualifiedName().toString())) {
+                return new ParameterCopy(policy, false);
+            }
+        }
+        return new ParameterCopy(CopyPolicy.SHARE, false);
+    }
+
+    /**
+     * Expression stored in the field for a value received by a parameter object.
+     */
+    public CodeBlock store(CodeBlock value) {
+        switch (policy) {
+            case COPY_ON_CONSTRUCT:
+                return CodeBlock.of("$T.$L($L)", COPIES, array ? "copy" : "unmodifiableCopy", value);
+            case UNMODIFIABLE_VIEW:
+                return array ? value : CodeBlock.of("$T.unmodifiable($L)", COPIES, value);
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Expression returned to readers of a field.
+     */
+    public CodeBlock read(CodeBlock field) {
+        if (policy == CopyPolicy.COPY_ON_READ || policy == CopyPolicy.UNMODIFIABLE_VIEW && array) {
+            return CodeBlock.of("$T.copy($L)", COPIES, field);
+        }
+        return field;
+    }
+}
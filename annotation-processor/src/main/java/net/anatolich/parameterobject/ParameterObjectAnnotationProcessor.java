@@ -2,17 +2,25 @@ package net.anatolich.parameterobject;
 
 import com.google.auto.service.AutoService;
 import com.squareup.javapoet.ClassName;
-import com.squareup.javapoet.JavaFile;
-import com.squareup.javapoet.TypeSpec;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
-import javax.annotation.processing.SupportedSourceVersion;
+import javax.annotation.processing.SupportedOptions;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
@@ -22,40 +30,228 @@ import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic.Kind;
 
 @SupportedAnnotationTypes("net.anatolich.parameterobject.ParameterObject")
-@SupportedSourceVersion(SourceVersion.RELEASE_8)
+@SupportedOptions({
+    ParameterObjectAnnotationProcessor.STATS_OPTION,
+    ParameterObjectAnnotationProcessor.PARALLEL_OPTION,
+    ParameterObjectAnnotationProcessor.REGISTRY_OPTION,
+    ParameterObjectAnnotationProcessor.METRICS_OPTION,
+    ParameterObjectAnnotationProcessor.RECORDS_OPTION
+})
 @AutoService(Processor.class)
 public class ParameterObjectAnnotationProcessor extends AbstractProcessor {
 
+    static final String STATS_OPTION = "parameterobject.stats";
+    static final String PARALLEL_OPTION = "parameterobject.parallel";
+    static final String REGISTRY_OPTION = "parameterobject.registry";
+    static final String METRICS_OPTION = "parameterobject.metrics";
+    static final String RECORDS_OPTION = "parameterobject.records";
+    private static final String GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+    private static final String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
+    private static final int PARALLEL_THRESHOLD = 32;
+
+    private int round;
+    private ParameterObjectRegistryBuilder registry;
+    private boolean registryWritten;
+    private boolean records;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        final String registryClassName = processingEnv.getOptions().get(REGISTRY_OPTION);
+        if (registryClassName != null && !registryClassName.isEmpty()) {
+            registry = new ParameterObjectRegistryBuilder(ClassName.bestGuess(registryClassName));
+        }
+        records = supportsRecords(processingEnv.getSourceVersion()) && isOptionEnabled(RECORDS_OPTION, false);
+    }
+
+    /**
+     * Generated code only depends on Java 8, newer source levels are supported as they are.
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Records are final since Java 16. The constant is looked up by name as the processor runs on Java 8 too.
+     */
+    static boolean supportsRecords(SourceVersion sourceVersion) {
+        try {
+            return sourceVersion.compareTo(SourceVersion.valueOf("RELEASE_16")) >= 0;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Declares the incremental processing mode to Gradle: a registry aggregates all annotated methods,
+     * otherwise every parameter object depends on a single method only.
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        final Set<String> options = new HashSet<>(super.getSupportedOptions());
+        options.add(registry == null ? GRADLE_ISOLATING : GRADLE_AGGREGATING);
+        return options;
+    }
+
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         final Filer filer = processingEnv.getFiler();
         final Messager messager = processingEnv.getMessager();
         final Elements elementUtils = processingEnv.getElementUtils();
         final ClassNameResolver classNameResolver = new ClassNameResolver(elementUtils);
+        final RoundStatistics statistics = new RoundStatistics(++round);
+        final RegistryKey registryKey = new RegistryKey(elementUtils, processingEnv.getTypeUtils());
 
+        final List<ParameterObjectClassBuilder> builders = new ArrayList<>();
+        final Map<ClassName, HolderClassBuilder> holders = new LinkedHashMap<>();
         final Set<? extends Element> annotatedElements = roundEnv.getElementsAnnotatedWith(ParameterObject.class);
         for (Element annotatedElement : annotatedElements) {
             if (annotatedElement.getKind() != ElementKind.METHOD) {
                 messager.printMessage(Kind.ERROR,
                     "ParameterObject anotation only allowed on methods",
                     annotatedElement);
+                continue;
             }
 
             final ExecutableElement method = (ExecutableElement) annotatedElement;
             final ClassName parametersClassName = classNameResolver
                 .resolve(method, method.getAnnotation(ParameterObject.class));
 
-            final ParameterObjectClassBuilder parameterObjectClassBuilder =
-                new ParameterObjectClassBuilder(parametersClassName, method);
-            final TypeSpec parameterObjectClass = parameterObjectClassBuilder.build();
+            final ParameterObjectClassBuilder builder = new ParameterObjectClassBuilder(parametersClassName, method,
+                isOptionEnabled(METRICS_OPTION, false), records);
+            if (!builder.unknownRedactedParameters().isEmpty()) {
+                messager.printMessage(Kind.ERROR,
+                    "Redacted parameters do not exist: " + String.join(", ", builder.unknownRedactedParameters()),
+                    method);
+                continue;
+            }
+            if (!builder.hasValidInternMaximumSize()) {
+                messager.printMessage(Kind.ERROR, "internMaximumSize must be positive", method);
+                continue;
+            }
+            if (!builder.hasInvokeMethod()) {
+                messager.printMessage(Kind.NOTE,
+                    "No invoke method generated, method is generic or not accessible from "
+                        + parametersClassName.packageName(),
+                    method);
+            }
+            if (!builder.hasDiffMethod()) {
+                messager.printMessage(Kind.NOTE, "No diff method generated, method has more than 64 parameters",
+                    method);
+            }
+            if (!builder.parametersWithoutBinaryFormat().isEmpty()) {
+                messager.printMessage(Kind.NOTE,
+                    "No binary codec generated, unsupported parameter types: "
+                        + String.join(", ", builder.parametersWithoutBinaryFormat()),
+                    method);
+            }
+            final ClassName holderClassName = parametersClassName.enclosingClassName();
+            if (holderClassName == null) {
+                builders.add(builder);
+            } else {
+                holders.computeIfAbsent(holderClassName, HolderClassBuilder::new)
+                    .add(registryKey.of(method), builder, method);
+            }
+            if (registry != null) {
+                registry.add(registryKey.of(method), parametersClassName, method);
+            }
+        }
+        statistics.resolved(builders.size() + holders.values().stream().mapToInt(HolderClassBuilder::size).sum());
+
+        final List<Rendering> renderings = Stream.concat(
+            stream(builders).map(b -> Rendering.of(b.method(), () -> render(b))),
+            stream(new ArrayList<>(holders.values())).map(h -> Rendering.of(h.holderType(),
+                () -> Stream.of(GeneratedSource.render(h.className(), h.build(), h.recordComponents())))))
+            .collect(Collectors.toList());
+        final List<GeneratedSource> sources = new ArrayList<>();
+        for (Rendering rendering : renderings) {
+            if (rendering.error != null) {
+                messager.printMessage(Kind.ERROR, "Cannot generate parameters class. " + rendering.error,
+                    rendering.element);
+            } else {
+                sources.addAll(rendering.sources);
+            }
+        }
+        statistics.built();
 
+        for (GeneratedSource source : sources) {
             try {
-                JavaFile.builder(parametersClassName.packageName(), parameterObjectClass)
-                    .build()
-                    .writeTo(filer);
+                source.writeTo(filer);
             } catch (IOException e) {
                 messager.printMessage(Kind.ERROR, "Cannot generate parameters class. " + e.getMessage());
             }
         }
+        if (annotatedElements.isEmpty() || roundEnv.processingOver()) {
+            writeRegistry(filer, messager);
+        }
+        statistics.written();
+
+        if (!sources.isEmpty() && isOptionEnabled(STATS_OPTION, false)) {
+            messager.printMessage(Kind.NOTE, statistics.toString());
+        }
         return true;
     }
+
+    private static Stream<GeneratedSource> render(ParameterObjectClassBuilder builder) {
+        final GeneratedSource parametersClass = GeneratedSource.render(builder.className(), builder.build(),
+            builder.recordComponents()
+                .map(components -> Collections.singletonMap(builder.className().simpleName(), components))
+                .orElseGet(Collections::emptyMap));
+        return builder.batch()
+            .map(batch -> Stream.of(parametersClass, GeneratedSource.render(batch.className(), batch.build())))
+            .orElseGet(() -> Stream.of(parametersClass));
+    }
+
+    /**
+     * The registry is written once, in the first round without new annotated methods, so that it is compiled
+     * together with the parameter objects it refers to.
+     */
+    private void writeRegistry(Filer filer, Messager messager) {
+        if (registry == null || registryWritten) {
+            return;
+        }
+        registryWritten = true;
+        try {
+            GeneratedSource.render(registry.className(), registry.build()).writeTo(filer);
+        } catch (IOException e) {
+            messager.printMessage(Kind.ERROR, "Cannot generate parameter object registry. " + e.getMessage());
+        }
+    }
+
+    private <T> Stream<T> stream(List<T> builders) {
+        if (builders.size() >= PARALLEL_THRESHOLD && isOptionEnabled(PARALLEL_OPTION, true)) {
+            return builders.parallelStream();
+        }
+        return builders.stream();
+    }
+
+    private boolean isOptionEnabled(String option, boolean defaultValue) {
+        final String value = processingEnv.getOptions().get(option);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Sources rendered for an element or the reason they could not be rendered. Rendering may run in parallel,
+     * errors are kept to be reported through the {@link Messager} on the processing thread.
+     */
+    private static final class Rendering {
+
+        private final Element element;
+        private final List<GeneratedSource> sources;
+        private final String error;
+
+        private Rendering(Element element, List<GeneratedSource> sources, String error) {
+            this.element = element;
+            this.sources = sources;
+            this.error = error;
+        }
+
+        static Rendering of(Element element, Supplier<Stream<GeneratedSource>> render) {
+            try {
+                return new Rendering(element, render.get().collect(Collectors.toList()), null);
+            } catch (IllegalStateException e) {
+                return new Rendering(element, Collections.emptyList(), e.getMessage());
+            }
+        }
+    }
 }
@@ -1,32 +1,268 @@
 package net.anatolich.parameterobject;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 
 public class ParameterObjectClassBuilder {
 
+    private static final String PARAMETER_NAMES_FIELD = "PARAMETER_NAMES";
+    private static final String SCHEMA_HASH_FIELD = "SCHEMA_HASH";
+    private static final String HASH_CODE_FIELD = "hashCodeCache";
+    private static final String METRICS_FIELD = "METRICS";
+    private static final String SHALLOW_SIZE_FIELD = "SHALLOW_SIZE_BYTES";
+    private static final String SCHEMA_FIELD = "SCHEMA";
+    private static final String INTERNER_FIELD = "INTERNER";
+    private static final String VALUES_STORED_PARAMETER = "valuesStored";
+    private static final int MAX_DIFF_PARAMETERS = Long.SIZE;
+
     private final Parameters parameters;
     private final ClassName parametersClassName;
+    private final ClassName argumentsViewClassName;
+    private final ClassName lazyClassName;
+    private final ClassName builderClassName;
+    private final boolean mutableMap;
+    private final boolean checkArity;
+    private final Set<String> redacted;
+    private final Optional<Invocation> invocation;
+    private final Optional<BatchClassBuilder> batch;
+    private final Optional<MutableClassBuilder> mutable;
+    private final boolean metrics;
+    private final boolean record;
+    private final boolean intern;
+    private final int internMaximumSize;
+    private final boolean builder;
+    private final ExecutableElement method;
+    private ClassName sharedArgumentsViewClassName;
+    private int sharedArgumentsViewType;
 
-    public ParameterObjectClassBuilder(ClassName parametersClassName, ExecutableElement method) {
+    /**
+     * @param records whether the source level supports records and they are not disabled by an option
+     */
+    public ParameterObjectClassBuilder(ClassName parametersClassName, ExecutableElement method, boolean metrics,
+        boolean records) {
         this.parametersClassName = parametersClassName;
-        this.parameters = new Parameters(method.getParameters());
+        this.metrics = metrics;
+        this.method = method;
+        this.argumentsViewClassName = parametersClassName.nestedClass("ArgumentsView");
+        this.lazyClassName = parametersClassName.nestedClass("Lazy");
+        this.builderClassName = parametersClassName.nestedClass("Builder");
+        final ParameterObject annotation = method.getAnnotation(ParameterObject.class);
+        this.parameters = new Parameters(method.getParameters(), annotation.copyPolicy());
+        this.mutableMap = annotation.mutableMap();
+        this.checkArity = annotation.checkArity();
+        this.record = records && annotation.record();
+        this.intern = annotation.intern();
+        this.internMaximumSize = annotation.internMaximumSize();
+        this.builder = annotation.builder();
+        this.redacted = new HashSet<>(Arrays.asList(annotation.redacted()));
+        this.invocation = Invocation.of(method, parametersClassName.packageName());
+        this.batch = annotation.batch()
+            ? Optional.of(new BatchClassBuilder(parametersClassName, parameters, method))
+            : Optional.empty();
+        this.mutable = annotation.mutable()
+            ? Optional.of(new MutableClassBuilder(parametersClassName, parameters))
+            : Optional.empty();
+    }
+
+    public ClassName className() {
+        return parametersClassName;
+    }
+
+    public ExecutableElement method() {
+        return method;
+    }
+
+    public List<String> parametersWithoutBinaryFormat() {
+        return parameters.withoutBinaryFormat();
+    }
+
+    /**
+     * Record components when a record is generated. JavaPoet cannot declare records, {@link #build()} returns
+     * a final class without instance fields and {@link GeneratedSource} turns its declaration into a record header.
+     */
+    public Optional<String> recordComponents() {
+        return record ? Optional.of(parameters.recordComponents()) : Optional.empty();
+    }
+
+    public Optional<BatchClassBuilder> batch() {
+        return batch;
+    }
+
+    public boolean hasInvokeMethod() {
+        return invocation.isPresent();
+    }
+
+    /**
+     * Read-only {@code toMap()} views are backed by a view class, unless {@code mutableMap} is set.
+     */
+    public boolean hasArgumentsView() {
+        return !mutableMap;
+    }
+
+    /**
+     * Makes {@code toMap()} return a view class shared by all parameter objects of a holder instead of
+     * a nested view class of its own.
+     *
+     * @param type index the shared view dispatches on to find this parameter object
+     */
+    public void shareArgumentsView(ClassName viewClassName, int type) {
+        this.sharedArgumentsViewClassName = viewClassName;
+        this.sharedArgumentsViewType = type;
+    }
+
+    public CodeBlock nameToIndexCases() {
+        return parameters.nameToIndexCases();
+    }
+
+    public CodeBlock indexToGetterCases(String parametersVariableName) {
+        return parameters.indexToGetterCases(parametersVariableName);
+    }
+
+    /**
+     * Changes are reported as a bit mask of parameter indices, so methods with more than 64 parameters
+     * get no {@code diff} method.
+     */
+    public boolean hasDiffMethod() {
+        return parameters.size() <= MAX_DIFF_PARAMETERS;
+    }
+
+    public boolean hasValidInternMaximumSize() {
+        return !intern || internMaximumSize > 0;
+    }
+
+    public List<String> unknownRedactedParameters() {
+        return parameters.unknownNames(redacted);
     }
 
     public TypeSpec build() {
-        return TypeSpec.classBuilder(this.parametersClassName)
-            .addModifiers(Modifier.PUBLIC)
-            .addModifiers(Modifier.FINAL)
-            .addFields(buildClassFields())
+        final TypeSpec.Builder parametersClass = TypeSpec.classBuilder(this.parametersClassName)
+            .addOriginatingElement(method)
+            .addModifiers(classModifiers(parametersClassName))
             .addMethod(buildAllArgsConstructor())
             .addMethod(buildFromMapConstructor())
             .addMethod(buildFromMapFactoryMethod())
-            .addMethod(buildToMapMethod())
+            .addMethod(buildLazyFromMapFactoryMethod())
+            .addType(buildLazyClass())
+            .addMethod(buildFromArgsFactoryMethod())
+            .addMethod(buildToArgsMethod())
+            .addField(buildSchemaField())
             .addMethods(buildGetters())
+            .addMethod(buildIndexedGetter())
+            .addMethods(buildPrimitiveGetters())
+            .addMethod(buildAcceptMethod())
+            .addMethod(buildEqualsMethod())
+            .addMethod(buildHashCodeMethod())
+            .addSuperinterface(JsonWritable.class)
+            .addMethod(buildWriteJsonMethod())
+            .addSuperinterface(SizeEstimated.class)
+            .addField(buildShallowSizeField())
+            .addMethod(buildEstimatedSizeMethod())
+            .addMethods(parameters.withMethods(parametersClassName, this::construction, sharesStoredValues()));
+        if (sharesStoredValues()) {
+            parametersClass.addMethod(buildStoredValuesConstructor());
+        }
+        if (builder) {
+            parametersClass
+                .addMethod(buildBuilderFactoryMethod())
+                .addMethod(buildToBuilderMethod())
+                .addType(buildBuilderClass());
+        }
+        if (record) {
+            parametersClass.addMethods(parameters.recordAccessors());
+            if (!redacted.isEmpty()) {
+                parametersClass.addMethod(buildRedactedToStringMethod());
+            }
+        } else {
+            parametersClass.addFields(buildClassFields());
+            if (cachesHashCode()) {
+                parametersClass.addField(buildHashCodeField());
+            }
+        }
+        if (hasDiffMethod()) {
+            parametersClass
+                .addMethod(buildDiffMethod())
+                .addMethod(buildAcceptChangesMethod());
+        }
+        if (intern) {
+            parametersClass
+                .addField(buildInternerField())
+                .addMethod(buildInternMethod())
+                .addMethod(buildInternerStatisticsMethod());
+        }
+        if (metrics) {
+            parametersClass.addField(buildMetricsField());
+        }
+        mutable.ifPresent(m -> parametersClass.addType(m.build()));
+        invocation.ifPresent(i -> parametersClass.addMethod(i.invokeMethod(parameters.publishedValues())));
+        if (mutableMap) {
+            parametersClass.addMethod(buildToMapMethod());
+        } else {
+            parametersClass
+                .addField(buildParameterNamesField())
+                .addMethod(buildToMapViewMethod());
+            if (sharedArgumentsViewClassName == null) {
+                parametersClass.addType(buildArgumentsViewClass());
+            }
+        }
+        if (parameters.withoutBinaryFormat().isEmpty()) {
+            parametersClass
+                .addSuperinterface(BinaryWritable.class)
+                .addField(buildSchemaHashField())
+                .addMethod(buildBinarySizeMethod())
+                .addMethod(buildWriteToMethod())
+                .addMethod(buildReadFromMethod());
+        }
+        return parametersClass.build();
+    }
+
+    /**
+     * Classes nested in a holder are static so that they can be created without a holder instance.
+     */
+    static Modifier[] classModifiers(ClassName className) {
+        if (className.enclosingClassName() == null) {
+            return new Modifier[] {Modifier.PUBLIC, Modifier.FINAL};
+        }
+        return new Modifier[] {Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL};
+    }
+
+    private FieldSpec buildSchemaField() {
+        final CodeBlock.Builder initializer = CodeBlock.builder().add("$T.of(", ParameterSchema.class);
+        if (parameters.size() > 0) {
+            initializer.add("\n$>$>$L$<$<", parameters.descriptorsCode());
+        }
+        return FieldSpec.builder(ParameterSchema.class, SCHEMA_FIELD)
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .initializer(initializer.add(")").build())
+            .build();
+    }
+
+    private MethodSpec buildIndexedGetter() {
+        final String argumentName = "index";
+        return MethodSpec.methodBuilder("get")
+            .addJavadoc("Value of the parameter at the position described by {@link #$N}.\n", SCHEMA_FIELD)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(Object.class)
+            .addParameter(int.class, argumentName)
+            .beginControlFlow("switch ($N)", argumentName)
+            .addCode(parameters.indexToGetterCases("this"))
+            .addCode("default:\n$>throw new $T($S + $N);\n$<", IndexOutOfBoundsException.class, "No parameter at ",
+                argumentName)
+            .endControlFlow()
             .build();
     }
 
@@ -34,6 +270,237 @@ public class ParameterObjectClassBuilder {
         return parameters.getters();
     }
 
+    private Iterable<MethodSpec> buildPrimitiveGetters() {
+        final String argumentName = "name";
+        return parameters.primitiveKinds().stream()
+            .map(kind -> MethodSpec.methodBuilder("get" + Parameter.kindSuffix(kind))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Parameter.primitiveType(kind))
+                .addParameter(String.class, argumentName)
+                .beginControlFlow("switch ($N)", argumentName)
+                .addCode(parameters.nameToValueCases(kind))
+                .addCode("default:\n$>throw new $T($S + $N);\n$<", IllegalArgumentException.class,
+                    String.format("No %s parameter named ", Parameter.primitiveType(kind)), argumentName)
+                .endControlFlow()
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private MethodSpec buildAcceptMethod() {
+        final String argumentName = "visitor";
+        return MethodSpec.methodBuilder("accept")
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(ArgumentsVisitor.class, argumentName)
+            .addCode(parameters.visitCode(argumentName))
+            .build();
+    }
+
+    private MethodSpec buildDiffMethod() {
+        final String argumentName = "other";
+        final String maskName = "changes";
+        return MethodSpec.methodBuilder("diff")
+            .addJavadoc("@return bit mask with bit {@code i} set when parameter {@code i} differs from {@code other}\n")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(long.class)
+            .addParameter(parametersClassName, argumentName)
+            .addStatement("$T.requireNonNull($N, $S)", Objects.class, argumentName, argumentName)
+            .addStatement("long $N = 0", maskName)
+            .addCode(parameters.diffCode(argumentName, maskName))
+            .addStatement("return $N", maskName)
+            .build();
+    }
+
+    private MethodSpec buildAcceptChangesMethod() {
+        final String previousName = "previous";
+        final String visitorName = "visitor";
+        final String maskName = "changes";
+        return MethodSpec.methodBuilder("acceptChanges")
+            .addJavadoc("Visits parameters that differ from {@code $N}.\n", previousName)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(parametersClassName, previousName)
+            .addParameter(ArgumentsVisitor.class, visitorName)
+            .addStatement("final long $N = diff($N)", maskName, previousName)
+            .addCode(parameters.visitChangesCode(visitorName, maskName))
+            .build();
+    }
+
+    private FieldSpec buildInternerField() {
+        return FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(Interner.class), parametersClassName),
+            INTERNER_FIELD)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$T.create($L)", Interner.class, internMaximumSize)
+            .build();
+    }
+
+    private MethodSpec buildInternMethod() {
+        return MethodSpec.methodBuilder("intern")
+            .addJavadoc("@return a shared parameter object equal to this one\n")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(parametersClassName)
+            .addStatement("return $N.intern(this)", INTERNER_FIELD)
+            .build();
+    }
+
+    private MethodSpec buildInternerStatisticsMethod() {
+        return MethodSpec.methodBuilder("internerStatistics")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(InternerStatistics.class)
+            .addStatement("return $N.statistics()", INTERNER_FIELD)
+            .build();
+    }
+
+    private FieldSpec buildMetricsField() {
+        final CodeBlock.Builder initializer = CodeBlock.builder()
+            .add("$T.recorder($S", Metrics.class, parametersClassName.reflectionName());
+        if (parameters.sizedNames().isEmpty()) {
+            initializer.add(")");
+        } else {
+            initializer.add(", $L)", parameters.sizedNames());
+        }
+        return FieldSpec.builder(ParameterObjectMetrics.Recorder.class, METRICS_FIELD)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer(initializer.build())
+            .build();
+    }
+
+    private CodeBlock recordConstruction() {
+        return record(CodeBlock.builder()
+            .add("$N.constructed();\n", METRICS_FIELD)
+            .add(parameters.argumentSizesCode(METRICS_FIELD))
+            .build());
+    }
+
+    /**
+     * Metrics calls are guarded by a static final flag, so they are removed by the JIT when metrics are
+     * disabled at runtime, and are not generated at all without the processor option.
+     */
+    private CodeBlock record(CodeBlock calls) {
+        if (!metrics) {
+            return CodeBlock.of("");
+        }
+        return CodeBlock.builder()
+            .beginControlFlow("if ($T.ENABLED)", Metrics.class)
+            .add(calls)
+            .endControlFlow()
+            .build();
+    }
+
+    /**
+     * The hash code is only cached when no field can change after construction. Arrays and collections may be
+     * shared with the caller, records cannot have a cache field.
+     */
+    private boolean cachesHashCode() {
+        return !record && parameters.allImmutable();
+    }
+
+    private FieldSpec buildHashCodeField() {
+        return FieldSpec.builder(int.class, HASH_CODE_FIELD)
+            .addModifiers(Modifier.PRIVATE)
+            .build();
+    }
+
+    private MethodSpec buildEqualsMethod() {
+        final String argumentName = "other";
+        final String castName = "that";
+        final MethodSpec.Builder equals = MethodSpec.methodBuilder("equals")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(boolean.class)
+            .addParameter(Object.class, argumentName)
+            .beginControlFlow("if (this == $N)", argumentName)
+            .addStatement("return true")
+            .endControlFlow()
+            .beginControlFlow("if (!($N instanceof $T))", argumentName, parametersClassName)
+            .addStatement("return false")
+            .endControlFlow();
+        if (parameters.size() == 0) {
+            return equals.addStatement("return true").build();
+        }
+        return equals
+            .addStatement("final $T $N = ($T) $N", parametersClassName, castName, parametersClassName, argumentName)
+            .addStatement("return $L", parameters.equalsCode(castName))
+            .build();
+    }
+
+    /**
+     * Hash code is computed on first use and cached like {@link String#hashCode()}. A race recomputes
+     * the same value, a zero hash is recomputed on every call. Records cannot declare the cache field
+     * and compute it on every call.
+     */
+    private MethodSpec buildHashCodeMethod() {
+        final String resultName = "result";
+        final MethodSpec.Builder hashCode = MethodSpec.methodBuilder("hashCode")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(int.class);
+        if (!cachesHashCode()) {
+            hashCode.addStatement("int $N = 0", resultName);
+            for (CodeBlock fieldHash : parameters.hashCodeCode()) {
+                hashCode.addStatement("$N = 31 * $N + $L", resultName, resultName, fieldHash);
+            }
+            return hashCode.addStatement("return $N", resultName).build();
+        }
+        hashCode.addStatement("int $N = this.$N", resultName, HASH_CODE_FIELD)
+            .beginControlFlow("if ($N == 0)", resultName);
+        for (CodeBlock fieldHash : parameters.hashCodeCode()) {
+            hashCode.addStatement("$N = 31 * $N + $L", resultName, resultName, fieldHash);
+        }
+        return hashCode
+            .addStatement("this.$N = $N", HASH_CODE_FIELD, resultName)
+            .endControlFlow()
+            .addStatement("return $N", resultName)
+            .build();
+    }
+
+    /**
+     * Shallow size is known from the field layout at compile time and includes the cached hash code if any.
+     */
+    private FieldSpec buildShallowSizeField() {
+        return FieldSpec.builder(long.class, SHALLOW_SIZE_FIELD)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$LL", parameters.shallowSizeBytes(cachesHashCode() ? Integer.BYTES : 0))
+            .build();
+    }
+
+    private MethodSpec buildEstimatedSizeMethod() {
+        final List<CodeBlock> retained = parameters.retainedSizeCode();
+        retained.add(0, CodeBlock.of("$N", SHALLOW_SIZE_FIELD));
+        return MethodSpec.methodBuilder("estimatedSizeBytes")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(long.class)
+            .addStatement("return $L", CodeBlock.join(retained, "$W+ "))
+            .build();
+    }
+
+    /**
+     * Implicit {@code toString()} of a record prints every component, redacted ones included.
+     */
+    private MethodSpec buildRedactedToStringMethod() {
+        return MethodSpec.methodBuilder("toString")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(String.class)
+            .addStatement("return $L", parameters.toStringCode(parametersClassName.simpleName(), redacted))
+            .build();
+    }
+
+    private MethodSpec buildWriteJsonMethod() {
+        final String argumentName = "out";
+        final MethodSpec.Builder writeJson = MethodSpec.methodBuilder("writeJson")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(Appendable.class, argumentName)
+            .addException(IOException.class);
+        if (parameters.size() == 0) {
+            return writeJson.addStatement("$N.append($S)", argumentName, "{}").build();
+        }
+        return writeJson
+            .addCode(parameters.jsonWriteCode(argumentName, redacted))
+            .addStatement("$N.append('}')", argumentName)
+            .build();
+    }
+
     private Iterable<FieldSpec> buildClassFields() {
         return parameters.classFields();
     }
@@ -43,15 +510,90 @@ public class ParameterObjectClassBuilder {
             .addModifiers(Modifier.PUBLIC)
             .addParameters(parameters.parameters())
             .addCode(parameters.assignParameterToField())
+            .addCode(recordConstruction())
             .build();
     }
 
+    /**
+     * A record constructor other than the canonical one has to delegate to it, so values are stored
+     * and construction is recorded by the canonical constructor.
+     */
     private MethodSpec buildFromMapConstructor() {
         final String argumentName = "parameters";
-        return MethodSpec.constructorBuilder()
+        final MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
             .addModifiers(Modifier.PRIVATE)
-            .addParameter(ArgumentsMap.parameter(argumentName))
+            .addParameter(ArgumentsMap.parameter(argumentName));
+        if (record) {
+            return constructor.addStatement("this($L)", parameters.castsFromMapCode(argumentName)).build();
+        }
+        return constructor
             .addCode(parameters.readFromMapCode(argumentName))
+            .addCode(recordConstruction())
+            .build();
+    }
+
+    /**
+     * Copy policies copying or wrapping values on construction would copy unchanged values of {@code withX()}
+     * and seeded builders again. Classes get a private constructor taking values as stored instead, records
+     * cannot bypass their canonical constructor.
+     */
+    private boolean sharesStoredValues() {
+        return !record && !parameters.storeAsIs();
+    }
+
+    private CodeBlock construction(CodeBlock arguments) {
+        if (sharesStoredValues()) {
+            return CodeBlock.of("new $T($L, true)", parametersClassName, arguments);
+        }
+        return CodeBlock.of("new $T($L)", parametersClassName, arguments);
+    }
+
+    private MethodSpec buildStoredValuesConstructor() {
+        return MethodSpec.constructorBuilder()
+            .addJavadoc("Creates a parameter object from values already stored according to the copy policy.\n")
+            .addModifiers(Modifier.PRIVATE)
+            .addParameters(parameters.parameters())
+            .addParameter(boolean.class, VALUES_STORED_PARAMETER)
+            .addCode(parameters.assignAsIsCode())
+            .addCode(recordConstruction())
+            .build();
+    }
+
+    private MethodSpec buildBuilderFactoryMethod() {
+        return MethodSpec.methodBuilder("builder")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(builderClassName)
+            .addStatement("return new $T()", builderClassName)
+            .build();
+    }
+
+    private MethodSpec buildToBuilderMethod() {
+        final String builderName = "builder";
+        return MethodSpec.methodBuilder("toBuilder")
+            .addJavadoc("@return a builder seeded with values of this parameter object\n")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(builderClassName)
+            .addStatement("final $T $N = new $T()", builderClassName, builderName, builderClassName)
+            .addCode(parameters.copyFieldsToCode(builderName))
+            .addStatement("return $N", builderName)
+            .build();
+    }
+
+    private TypeSpec buildBuilderClass() {
+        return TypeSpec.classBuilder(builderClassName)
+            .addJavadoc("Builds a parameter object, several changes of a seeded builder take a single allocation.\n"
+                + "Not thread-safe.\n")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .addFields(parameters.mutableFields())
+            .addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build())
+            .addMethods(parameters.builderSetters(builderClassName, sharesStoredValues()))
+            .addMethod(MethodSpec.methodBuilder("build")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(parametersClassName)
+                .addStatement("return $L", construction(parameters.fieldReferences()))
+                .build())
             .build();
     }
 
@@ -62,18 +604,189 @@ public class ParameterObjectClassBuilder {
             .addModifiers(Modifier.STATIC)
             .returns(parametersClassName)
             .addParameter(ArgumentsMap.parameter(argumentName))
+            .addCode(record(CodeBlock.of("$N.fromMap();\n", METRICS_FIELD)))
             .addStatement("return new $T($N)", parametersClassName, argumentName)
             .build();
     }
 
+    private MethodSpec buildLazyFromMapFactoryMethod() {
+        final String argumentName = "parameters";
+        return MethodSpec.methodBuilder("lazyFromMap")
+            .addJavadoc("Wraps a map without reading it. Parameters are read, checked and cached on first access.\n")
+            .addModifiers(Modifier.PUBLIC)
+            .addModifiers(Modifier.STATIC)
+            .returns(lazyClassName)
+            .addParameter(ArgumentsMap.parameter(argumentName))
+            .addCode(record(CodeBlock.of("$N.fromMap();\n", METRICS_FIELD)))
+            .addStatement("return new $T($T.requireNonNull($N, $S))", lazyClassName, Objects.class, argumentName,
+                argumentName)
+            .build();
+    }
+
+    private TypeSpec buildLazyClass() {
+        final String mapFieldName = "lazySource";
+        final String argumentName = "parameters";
+        return TypeSpec.classBuilder(lazyClassName)
+            .addJavadoc("Parameters read from a map on first access. Not thread-safe.\n")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .addField(FieldSpec.builder(ArgumentsMap.type(), mapFieldName, Modifier.PRIVATE, Modifier.FINAL).build())
+            .addFields(parameters.lazyFields())
+            .addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(ArgumentsMap.parameter(argumentName))
+                .addStatement("this.$N = $N", mapFieldName, argumentName)
+                .build())
+            .addMethods(parameters.lazyGetters())
+            .addMethods(parameters.lazyResolvers(mapFieldName))
+            .addMethod(MethodSpec.methodBuilder("toParameters")
+                .addJavadoc("Reads all remaining parameters into a parameter object.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(parametersClassName)
+                .addCode(parameters.lazyResolution())
+                .addStatement("return $L", construction(parameters.fieldReferences()))
+                .build())
+            .build();
+    }
+
+    private MethodSpec buildFromArgsFactoryMethod() {
+        final String argumentName = "args";
+        final MethodSpec.Builder fromArgs = MethodSpec.methodBuilder("fromArgs")
+            .addModifiers(Modifier.PUBLIC)
+            .addModifiers(Modifier.STATIC)
+            .returns(parametersClassName)
+            .addParameter(Object[].class, argumentName)
+            .varargs();
+        if (checkArity) {
+            fromArgs
+                .beginControlFlow("if ($N.length != $L)", argumentName, parameters.size())
+                .addStatement("throw new $T($S + $N.length)", IllegalArgumentException.class,
+                    String.format("Expected %d arguments but got ", parameters.size()), argumentName)
+                .endControlFlow();
+        }
+        return fromArgs
+            .addStatement("return new $T($L)", parametersClassName, parameters.readFromArrayCode(argumentName))
+            .build();
+    }
+
+    private MethodSpec buildToArgsMethod() {
+        return MethodSpec.methodBuilder("toArgs")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(Object[].class)
+            .addStatement("return new $T[] {$L}", Object.class, parameters.publishedValues())
+            .build();
+    }
+
     private MethodSpec buildToMapMethod() {
         final String resultVariable = "result";
         return MethodSpec.methodBuilder("toMap")
             .addModifiers(Modifier.PUBLIC)
             .returns(ArgumentsMap.type())
+            .addCode(record(CodeBlock.of("$N.toMap();\n", METRICS_FIELD)))
             .addStatement(ArgumentsMap.initialize(resultVariable))
             .addCode(parameters.addToMapCode(resultVariable))
             .addStatement(ArgumentsMap.returnResult(resultVariable))
             .build();
     }
+
+    private FieldSpec buildParameterNamesField() {
+        return FieldSpec.builder(String[].class, PARAMETER_NAMES_FIELD)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer(parameters.namesArray())
+            .build();
+    }
+
+    private MethodSpec buildToMapViewMethod() {
+        return MethodSpec.methodBuilder("toMap")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(ArgumentsMap.type())
+            .addCode(record(CodeBlock.of("$N.toMap();\n", METRICS_FIELD)))
+            .addStatement("return $L", sharedArgumentsViewClassName == null
+                ? CodeBlock.of("new $T()", argumentsViewClassName)
+                : CodeBlock.of("new $T($L, $N, this)", sharedArgumentsViewClassName, sharedArgumentsViewType,
+                    PARAMETER_NAMES_FIELD))
+            .build();
+    }
+
+    private TypeSpec buildArgumentsViewClass() {
+        final String argumentName = "name";
+        final MethodSpec constructor = MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .addStatement("super($N)", PARAMETER_NAMES_FIELD)
+            .build();
+        final MethodSpec indexOf = MethodSpec.methodBuilder("indexOf")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .returns(int.class)
+            .addParameter(Object.class, argumentName)
+            .beginControlFlow("if (!($N instanceof $T))", argumentName, String.class)
+            .addStatement("return -1")
+            .endControlFlow()
+            .beginControlFlow("switch (($T) $N)", String.class, argumentName)
+            .addCode(parameters.nameToIndexCases())
+            .addCode("default:\n$>return -1;\n$<")
+            .endControlFlow()
+            .build();
+        final String indexName = "index";
+        final MethodSpec valueAt = MethodSpec.methodBuilder("valueAt")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .returns(Object.class)
+            .addParameter(int.class, indexName)
+            .beginControlFlow("switch ($N)", indexName)
+            .addCode(parameters.indexToValueCases(parametersClassName))
+            .addCode("default:\n$>throw new $T($S + $N);\n$<", IndexOutOfBoundsException.class, "No parameter at ",
+                indexName)
+            .endControlFlow()
+            .build();
+        return TypeSpec.classBuilder(argumentsViewClassName)
+            .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+            .superclass(ArgumentsMap.viewSuperclass())
+            .addMethod(constructor)
+            .addMethod(indexOf)
+            .addMethod(valueAt)
+            .build();
+    }
+
+    private FieldSpec buildSchemaHashField() {
+        return FieldSpec.builder(int.class, SCHEMA_HASH_FIELD)
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$L", parameters.schemaHash())
+            .build();
+    }
+
+    private MethodSpec buildBinarySizeMethod() {
+        final CodeBlock.Builder size = CodeBlock.builder().add("$T.BYTES", Integer.class);
+        if (parameters.size() > 0) {
+            size.add(" + $L", parameters.binarySizeCode());
+        }
+        return MethodSpec.methodBuilder("binarySize")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(int.class)
+            .addStatement("return $L", size.build())
+            .build();
+    }
+
+    private MethodSpec buildWriteToMethod() {
+        final String argumentName = "buffer";
+        return MethodSpec.methodBuilder("writeTo")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(ByteBuffer.class, argumentName)
+            .addStatement("$N.putInt($N)", argumentName, SCHEMA_HASH_FIELD)
+            .addCode(parameters.binaryWriteCode(argumentName))
+            .build();
+    }
+
+    private MethodSpec buildReadFromMethod() {
+        final String argumentName = "buffer";
+        return MethodSpec.methodBuilder("readFrom")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(parametersClassName)
+            .addParameter(ByteBuffer.class, argumentName)
+            .addStatement("$T.checkSchema($N, $N, $S)", BinaryCodecs.class, argumentName, SCHEMA_HASH_FIELD,
+                parametersClassName.simpleName())
+            .addStatement("return new $T($L)", parametersClassName, parameters.binaryReadCode(argumentName))
+            .build();
+    }
 }
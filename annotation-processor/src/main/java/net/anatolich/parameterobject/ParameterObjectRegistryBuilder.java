@@ -0,0 +1,228 @@
+package net.anatolich.parameterobject;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Collects parameter objects generated in all rounds and builds a registry of their factories
+ * keyed by the signature of the annotated method.
+ */
+public class ParameterObjectRegistryBuilder {
+
+    private static final String FACTORIES_FIELD = "FACTORIES";
+    private static final String INDEXED_FACTORIES_CLASS = "Factories";
+    private static final int ENTRIES_PER_METHOD = 256;
+    private static final TypeName FACTORY_TYPE = ParameterizedTypeName.get(
+        ClassName.get(ParameterObjectFactory.class), WildcardTypeName.subtypeOf(Object.class));
+    private static final TypeName FACTORIES_TYPE = ParameterizedTypeName.get(
+        ClassName.get(Map.class), ClassName.get(String.class), FACTORY_TYPE);
+
+    private final ClassName registryClassName;
+    private final ClassName indexedFactoriesClassName;
+    private final List<String> keys = new ArrayList<>();
+    private final List<ClassName> parametersClassNames = new ArrayList<>();
+    private final List<ExecutableElement> methods = new ArrayList<>();
+
+    public ParameterObjectRegistryBuilder(ClassName registryClassName) {
+        this.registryClassName = registryClassName;
+        this.indexedFactoriesClassName = registryClassName.nestedClass(INDEXED_FACTORIES_CLASS);
+    }
+
+    public ClassName className() {
+        return registryClassName;
+    }
+
+    public void add(String key, ClassName parametersClassName, ExecutableElement method) {
+        keys.add(key);
+        parametersClassNames.add(parametersClassName);
+        methods.add(method);
+    }
+
+    public TypeSpec build() {
+        final TypeSpec.Builder registryClass = TypeSpec.classBuilder(registryClassName)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+        addRegistryMembers(registryClass);
+        methods.forEach(registryClass::addOriginatingElement);
+        return registryClass.build();
+    }
+
+    /**
+     * Adds the factories map, lookup methods and the factories dispatch class to a class. Holders use it
+     * to register their nested classes.
+     */
+    public void addRegistryMembers(TypeSpec.Builder type) {
+        type.addField(FieldSpec.builder(FACTORIES_TYPE, FACTORIES_FIELD)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("factories()")
+                .build())
+            .addMethod(buildFactoriesMethod())
+            .addMethods(buildRegisterMethods())
+            .addMethod(buildForKeyMethod())
+            .addMethod(buildForMethodMethod())
+            .addMethod(buildKeysMethod())
+            .addType(buildIndexedFactoriesClass());
+    }
+
+    private MethodSpec buildFactoriesMethod() {
+        final String variableName = "factories";
+        final String indexedVariableName = "indexed";
+        final MethodSpec.Builder factories = MethodSpec.methodBuilder("factories")
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .returns(FACTORIES_TYPE)
+            .addStatement("final $T $N = new $T<>($L)", FACTORIES_TYPE, variableName, HashMap.class,
+                keys.size() * 4 / 3 + 1)
+            .addStatement("final $T $N = new $T()", indexedFactoriesClassName, indexedVariableName,
+                indexedFactoriesClassName);
+        for (int chunk = 0; chunk < chunks(); chunk++) {
+            factories.addStatement("register$L($N, $N)", chunk, variableName, indexedVariableName);
+        }
+        return factories
+            .addStatement("return $T.unmodifiableMap($N)", Collections.class, variableName)
+            .build();
+    }
+
+    /**
+     * Registrations are split across methods to keep each of them far below the bytecode size limit.
+     */
+    private List<MethodSpec> buildRegisterMethods() {
+        final String argumentName = "factories";
+        final String indexedArgumentName = "indexed";
+        final List<MethodSpec> registerMethods = new ArrayList<>();
+        for (int chunk = 0; chunk < chunks(); chunk++) {
+            final CodeBlock.Builder code = CodeBlock.builder();
+            for (int i = chunk * ENTRIES_PER_METHOD; i < chunkEnd(chunk); i++) {
+                code.addStatement("$N.put($S, $T.of($T.class, $L, $N))", argumentName, keys.get(i),
+                    ParameterObjectFactory.class, parametersClassNames.get(i), i, indexedArgumentName);
+            }
+            registerMethods.add(MethodSpec.methodBuilder("register" + chunk)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(FACTORIES_TYPE, argumentName)
+                .addParameter(indexedFactoriesClassName, indexedArgumentName)
+                .addCode(code.build())
+                .build());
+        }
+        return registerMethods;
+    }
+
+    /**
+     * Calls static factories of all registered classes by index. A single class with switches is loaded
+     * instead of bootstrapping a pair of method references per parameter object when the registry is initialized.
+     */
+    private TypeSpec buildIndexedFactoriesClass() {
+        final ParameterSpec args = ParameterSpec.builder(Object[].class, "args").build();
+        final ParameterSpec parameters = ArgumentsMap.parameter("parameters");
+        return TypeSpec.classBuilder(indexedFactoriesClassName)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .addSuperinterface(ParameterObjectFactory.IndexedFactories.class)
+            .addMethod(buildDispatchMethod("fromArgs", args))
+            .addMethods(buildDispatchChunkMethods("fromArgs", args))
+            .addMethod(buildDispatchMethod("fromMap", parameters))
+            .addMethods(buildDispatchChunkMethods("fromMap", parameters))
+            .build();
+    }
+
+    private MethodSpec buildDispatchMethod(String factoryName, ParameterSpec argument) {
+        final String indexName = "index";
+        final CodeBlock.Builder cases = CodeBlock.builder();
+        for (int chunk = 0; chunk < chunks(); chunk++) {
+            cases.add("case $L:\n$>return $N$L($N, $N);\n$<", chunk, factoryName, chunk, indexName, argument);
+        }
+        return MethodSpec.methodBuilder(factoryName)
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(Object.class)
+            .addParameter(int.class, indexName)
+            .addParameter(argument)
+            .beginControlFlow("switch ($N / $L)", indexName, ENTRIES_PER_METHOD)
+            .addCode(cases.build())
+            .addCode(unknownIndex(indexName))
+            .endControlFlow()
+            .build();
+    }
+
+    private List<MethodSpec> buildDispatchChunkMethods(String factoryName, ParameterSpec argument) {
+        final String indexName = "index";
+        final List<MethodSpec> chunkMethods = new ArrayList<>();
+        for (int chunk = 0; chunk < chunks(); chunk++) {
+            final CodeBlock.Builder cases = CodeBlock.builder();
+            for (int i = chunk * ENTRIES_PER_METHOD; i < chunkEnd(chunk); i++) {
+                cases.add("case $L:\n$>return $T.$N($N);\n$<", i, parametersClassNames.get(i), factoryName,
+                    argument);
+            }
+            chunkMethods.add(MethodSpec.methodBuilder(factoryName + chunk)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(Object.class)
+                .addParameter(int.class, indexName)
+                .addParameter(argument)
+                .beginControlFlow("switch ($N)", indexName)
+                .addCode(cases.build())
+                .addCode(unknownIndex(indexName))
+                .endControlFlow()
+                .build());
+        }
+        return chunkMethods;
+    }
+
+    private static CodeBlock unknownIndex(String indexName) {
+        return CodeBlock.of("default:\n$>throw new $T($S + $N);\n$<", IllegalArgumentException.class,
+            "No parameter object registered at index ", indexName);
+    }
+
+    private int chunkEnd(int chunk) {
+        return Math.min(keys.size(), (chunk + 1) * ENTRIES_PER_METHOD);
+    }
+
+    private int chunks() {
+        return (keys.size() + ENTRIES_PER_METHOD - 1) / ENTRIES_PER_METHOD;
+    }
+
+    private MethodSpec buildForKeyMethod() {
+        final String argumentName = "key";
+        return MethodSpec.methodBuilder("forKey")
+            .addJavadoc("Factory of a parameter object by method key or {@code null} if method is not annotated.\n")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(FACTORY_TYPE)
+            .addParameter(String.class, argumentName)
+            .addStatement("return $N.get($N)", FACTORIES_FIELD, argumentName)
+            .build();
+    }
+
+    private MethodSpec buildForMethodMethod() {
+        final String argumentName = "method";
+        return MethodSpec.methodBuilder("forMethod")
+            .addJavadoc("Factory of a parameter object by annotated method or {@code null} "
+                + "if method is not annotated.\n")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(FACTORY_TYPE)
+            .addParameter(Method.class, argumentName)
+            .addStatement("return $N.get($T.key($N))", FACTORIES_FIELD, ParameterObjectFactory.class, argumentName)
+            .build();
+    }
+
+    private MethodSpec buildKeysMethod() {
+        return MethodSpec.methodBuilder("keys")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(ParameterizedTypeName.get(Set.class, String.class))
+            .addStatement("return $N.keySet()", FACTORIES_FIELD)
+            .build();
+    }
+}
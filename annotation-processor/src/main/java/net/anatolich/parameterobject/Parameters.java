@@ -1,21 +1,29 @@
 package net.anatolich.parameterobject;
 
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
 
 public class Parameters {
 
     private final List<Parameter> parameters;
 
-    public Parameters(List<? extends VariableElement> parameters) {
+    public Parameters(List<? extends VariableElement> parameters, CopyPolicy copyPolicy) {
         this.parameters = parameters.stream()
-            .map(Parameter::new)
+            .map(parameter -> new Parameter(parameter, copyPolicy))
             .collect(Collectors.toList());
     }
 
@@ -41,11 +49,334 @@ public class Parameters {
         return CodeBlock.join(codeBlocks, "");
     }
 
+    public CodeBlock castsFromMapCode(String mapVariableName) {
+        return CodeBlock.join(specs(p -> p.castFromMapCode(mapVariableName)), ",$W");
+    }
+
+    public String recordComponents() {
+        return parameters.stream()
+            .map(Parameter::recordComponent)
+            .collect(Collectors.joining(", "));
+    }
+
+    public List<MethodSpec> recordAccessors() {
+        return parameters.stream()
+            .map(Parameter::recordAccessor)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(Collectors.toList());
+    }
+
     public CodeBlock assignParameterToField() {
         final Iterable<CodeBlock> codeBlocks = specs(Parameter::assignParameterToField);
         return CodeBlock.join(codeBlocks, "");
     }
 
+    public CodeBlock readFromArrayCode(String arrayVariableName) {
+        final Iterable<CodeBlock> codeBlocks = indexedSpecs((p, i) -> p.readFromArrayCode(arrayVariableName, i));
+        return CodeBlock.join(codeBlocks, ", ");
+    }
+
+    public CodeBlock publishedValues() {
+        final Iterable<CodeBlock> codeBlocks = specs(Parameter::publishedValue);
+        return CodeBlock.join(codeBlocks, ", ");
+    }
+
+    public Set<TypeKind> primitiveKinds() {
+        return parameters.stream()
+            .map(Parameter::kind)
+            .filter(TypeKind::isPrimitive)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(TypeKind.class)));
+    }
+
+    public CodeBlock nameToValueCases(TypeKind kind) {
+        final List<CodeBlock> codeBlocks = parameters.stream()
+            .filter(p -> p.kind() == kind)
+            .map(Parameter::nameToValueCase)
+            .collect(Collectors.toList());
+        return CodeBlock.join(codeBlocks, "");
+    }
+
+    public CodeBlock visitCode(String visitorVariableName) {
+        final Iterable<CodeBlock> codeBlocks = specs(p -> p.visitCode(visitorVariableName));
+        return CodeBlock.join(codeBlocks, "");
+    }
+
+    public List<String> withoutBinaryFormat() {
+        return parameters.stream()
+            .filter(p -> !p.hasBinaryFormat())
+            .map(Parameter::name)
+            .collect(Collectors.toList());
+    }
+
+    public int schemaHash() {
+        return parameters.stream()
+            .map(Parameter::schemaEntry)
+            .collect(Collectors.joining(";"))
+            .hashCode();
+    }
+
+    public CodeBlock binaryWriteCode(String bufferVariableName) {
+        final Iterable<CodeBlock> codeBlocks = specs(p -> p.binaryWriteCode(bufferVariableName));
+        return CodeBlock.join(codeBlocks, "");
+    }
+
+    public CodeBlock binaryReadCode(String bufferVariableName) {
+        final Iterable<CodeBlock> codeBlocks = specs(p -> p.binaryReadCode(bufferVariableName));
+        return CodeBlock.join(codeBlocks, ",$W");
+    }
+
+    public CodeBlock binarySizeCode() {
+        final Iterable<CodeBlock> codeBlocks = specs(Parameter::binarySizeCode);
+        return CodeBlock.join(codeBlocks, "$W+ ");
+    }
+
+    public CodeBlock jsonWriteCode(String appendableVariableName, Set<String> redacted) {
+        final Iterable<CodeBlock> codeBlocks = indexedSpecs(
+            (p, i) -> p.jsonWriteCode(appendableVariableName, i == 0, redacted.contains(p.name())));
+        return CodeBlock.join(codeBlocks, "");
+    }
+
+    /**
+     * String concatenation in the format of record {@code toString()} with values of redacted parameters masked.
+     */
+    public CodeBlock toStringCode(String className, Set<String> redacted) {
+        final CodeBlock.Builder code = CodeBlock.builder();
+        final StringBuilder literal = new StringBuilder(className).append('[');
+        for (int i = 0; i < parameters.size(); i++) {
+            final Parameter parameter = parameters.get(i);
+            if (i > 0) {
+                literal.append(", ");
+            }
+            literal.append(parameter.name()).append('=');
+            if (redacted.contains(parameter.name())) {
+                literal.append("***");
+            } else {
+                code.add("$S + $L + ", literal.toString(), parameter.fieldReference());
+                literal.setLength(0);
+            }
+        }
+        return code.add("$S", literal.append(']').toString()).build();
+    }
+
+    public List<String> unknownNames(Collection<String> names) {
+        final Set<String> known = parameters.stream()
+            .map(Parameter::name)
+            .collect(Collectors.toSet());
+        return names.stream()
+            .filter(name -> !known.contains(name))
+            .collect(Collectors.toList());
+    }
+
+    public Iterable<FieldSpec> columnFields() {
+        return specs(Parameter::columnField);
+    }
+
+    public CodeBlock initializeColumnsCode(String capacityVariableName) {
+        return CodeBlock.join(specs(p -> p.initializeColumnCode(capacityVariableName)), "");
+    }
+
+    public CodeBlock growColumnsCode(String capacityVariableName) {
+        return CodeBlock.join(specs(p -> p.growColumnCode(capacityVariableName)), "");
+    }
+
+    public CodeBlock storeInColumnsCode(String indexExpression) {
+        return CodeBlock.join(specs(p -> p.storeInColumnCode(indexExpression)), "");
+    }
+
+    public CodeBlock clearColumnsCode(String sizeExpression) {
+        return CodeBlock.join(specs(p -> p.clearColumnCode(sizeExpression)), "");
+    }
+
+    public CodeBlock readFromColumnsCode(String indexVariableName) {
+        return CodeBlock.join(specs(p -> p.readFromColumnCode(indexVariableName)), ",$W");
+    }
+
+    public Iterable<MethodSpec> columnGetters(String indexVariableName) {
+        return specs(p -> p.columnGetter(indexVariableName));
+    }
+
+    public CodeBlock visitColumnsCode(String visitorVariableName, String indexVariableName) {
+        return CodeBlock.join(specs(p -> p.visitColumnCode(visitorVariableName, indexVariableName)), "");
+    }
+
+    public CodeBlock equalsCode(String otherVariableName) {
+        return CodeBlock.join(specs(p -> p.equalsCode(otherVariableName)), "$W&& ");
+    }
+
+    public CodeBlock diffCode(String otherVariableName, String maskVariableName) {
+        return CodeBlock.join(indexedSpecs((p, i) -> p.diffCode(otherVariableName, maskVariableName, i)), "");
+    }
+
+    public CodeBlock visitChangesCode(String visitorVariableName, String maskVariableName) {
+        return CodeBlock.join(indexedSpecs((p, i) -> p.visitChangeCode(visitorVariableName, maskVariableName, i)),
+            "");
+    }
+
+    public Iterable<CodeBlock> hashCodeCode() {
+        return specs(Parameter::hashCodeCode);
+    }
+
+    public CodeBlock getterCalls(String variableName) {
+        return CodeBlock.join(specs(p -> p.getterCall(variableName)), ",$W");
+    }
+
+    public CodeBlock sizedNames() {
+        final List<CodeBlock> names = parameters.stream()
+            .filter(Parameter::isSized)
+            .map(p -> CodeBlock.of("$S", p.name()))
+            .collect(Collectors.toList());
+        return CodeBlock.join(names, ", ");
+    }
+
+    /**
+     * Statements reporting sizes of sized parameters to a metrics recorder.
+     */
+    public CodeBlock argumentSizesCode(String recorderName) {
+        final CodeBlock.Builder code = CodeBlock.builder();
+        int index = 0;
+        for (Parameter parameter : parameters) {
+            if (parameter.isSized()) {
+                code.addStatement("$N.argumentSize($L, $L)", recorderName, index++, parameter.sizeCode());
+            }
+        }
+        return code.build();
+    }
+
+    /**
+     * Size of an object holding the parameter fields and {@code extraFieldBytes} of other fields: a 12 byte
+     * header and the fields rounded up to 8 byte alignment.
+     */
+    public long shallowSizeBytes(int extraFieldBytes) {
+        final long fields = parameters.stream().mapToInt(Parameter::fieldSizeBytes).sum() + extraFieldBytes;
+        return (12 + fields + 7) & ~7L;
+    }
+
+    public List<CodeBlock> retainedSizeCode() {
+        return parameters.stream()
+            .map(Parameter::retainedSizeCode)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(Collectors.toList());
+    }
+
+    public boolean hasParameterizedTypes() {
+        return parameters.stream().anyMatch(Parameter::isParameterized);
+    }
+
+    public int size() {
+        return parameters.size();
+    }
+
+    public CodeBlock nameToIndexCases() {
+        final Iterable<CodeBlock> codeBlocks = indexedSpecs(Parameter::nameToIndexCase);
+        return CodeBlock.join(codeBlocks, "");
+    }
+
+    public CodeBlock indexToValueCases(ClassName ownerClassName) {
+        final Iterable<CodeBlock> codeBlocks = indexedSpecs((p, i) -> p.indexToValueCase(i, ownerClassName));
+        return CodeBlock.join(codeBlocks, "");
+    }
+
+    public CodeBlock indexToGetterCases(String parametersVariableName) {
+        final Iterable<CodeBlock> codeBlocks = indexedSpecs((p, i) ->
+            CodeBlock.of("case $L:\n$>return $L;\n$<", i, p.getterCall(parametersVariableName)));
+        return CodeBlock.join(codeBlocks, "");
+    }
+
+    public List<FieldSpec> lazyFields() {
+        return parameters.stream()
+            .flatMap(p -> p.lazyFields().stream())
+            .collect(Collectors.toList());
+    }
+
+    public Iterable<MethodSpec> lazyGetters() {
+        return specs(Parameter::lazyGetter);
+    }
+
+    public Iterable<MethodSpec> lazyResolvers(String mapFieldName) {
+        return specs(p -> p.lazyResolver(mapFieldName));
+    }
+
+    public CodeBlock lazyResolution() {
+        return CodeBlock.join(specs(Parameter::lazyResolution), "");
+    }
+
+    public Iterable<FieldSpec> mutableFields() {
+        return specs(Parameter::mutableField);
+    }
+
+    public Iterable<MethodSpec> mutableGetters(CodeBlock guard) {
+        return specs(p -> p.mutableGetter(guard));
+    }
+
+    public Iterable<MethodSpec> mutableSetters(ClassName mutableClassName, CodeBlock guard) {
+        return specs(p -> p.mutableSetter(mutableClassName, guard));
+    }
+
+    public CodeBlock assignAsIsCode() {
+        return CodeBlock.join(specs(Parameter::assignAsIsCode), "");
+    }
+
+    public CodeBlock mutableCopyFromCode(String parametersVariableName) {
+        return CodeBlock.join(specs(p -> p.mutableCopyFromCode(parametersVariableName)), "");
+    }
+
+    public CodeBlock mutableResetCode() {
+        return CodeBlock.join(specs(Parameter::mutableResetCode), "");
+    }
+
+    public CodeBlock fieldReferences() {
+        return CodeBlock.join(specs(Parameter::fieldReference), ",$W");
+    }
+
+    public boolean allImmutable() {
+        return parameters.stream().allMatch(Parameter::isImmutable);
+    }
+
+    public boolean storeAsIs() {
+        return parameters.stream().allMatch(Parameter::storesAsIs);
+    }
+
+    /**
+     * {@code withX} methods passing the fields of unchanged parameters to a constructor.
+     *
+     * @param construction creates the parameter object from constructor arguments
+     * @param storeChanged whether the changed value is stored by the method rather than by the constructor
+     */
+    public Iterable<MethodSpec> withMethods(ClassName ownerClassName, Function<CodeBlock, CodeBlock> construction,
+        boolean storeChanged) {
+        return indexedSpecs((p, i) -> {
+            final Iterable<CodeBlock> arguments = indexedSpecs((other, j) -> j.equals(i)
+                ? storeChanged ? other.storedValue() : CodeBlock.of("$N", other.name())
+                : other.fieldReference());
+            return p.withMethod(ownerClassName, construction.apply(CodeBlock.join(arguments, ",$W")));
+        });
+    }
+
+    public Iterable<MethodSpec> builderSetters(ClassName builderClassName, boolean store) {
+        return specs(p -> p.builderSetter(builderClassName, store));
+    }
+
+    public CodeBlock copyFieldsToCode(String variableName) {
+        return CodeBlock.join(specs(p -> p.copyFieldToCode(variableName)), "");
+    }
+
+    public CodeBlock descriptorsCode() {
+        return CodeBlock.join(indexedSpecs((p, i) -> p.descriptorCode(i)), ",\n");
+    }
+
+    public CodeBlock namesArray() {
+        final Iterable<CodeBlock> names = specs(p -> CodeBlock.of("$S", p.name()));
+        return CodeBlock.of("{$L}", CodeBlock.join(names, ", "));
+    }
+
+    private <T> Iterable<T> indexedSpecs(BiFunction<Parameter, Integer, T> converter) {
+        return IntStream.range(0, parameters.size())
+            .mapToObj(i -> converter.apply(parameters.get(i), i))
+            .collect(Collectors.toList());
+    }
+
     private <T> Iterable<T> specs(Function<Parameter, T> converter) {
         return parameters.stream()
             .map(converter)
@@ -0,0 +1,43 @@
+package net.anatolich.parameterobject;
+
+import java.util.stream.Collectors;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Builds registry keys of annotated methods in the format of {@link ParameterObjectFactory#key(java.lang.reflect.Method)}.
+ */
+public class RegistryKey {
+
+    private final Elements elements;
+    private final Types types;
+
+    public RegistryKey(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    public String of(ExecutableElement method) {
+        final TypeElement declaringClass = (TypeElement) method.getEnclosingElement();
+        return method.getParameters().stream()
+            .map(parameter -> typeName(types.erasure(parameter.asType())))
+            .collect(Collectors.joining(",",
+                elements.getBinaryName(declaringClass) + "#" + method.getSimpleName() + "(", ")"));
+    }
+
+    private String typeName(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return typeName(((ArrayType) type).getComponentType()) + "[]";
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return elements.getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString();
+        }
+        return type.toString();
+    }
+}
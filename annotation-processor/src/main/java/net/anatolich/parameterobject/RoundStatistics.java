@@ -0,0 +1,51 @@
+package net.anatolich.parameterobject;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timings of a single processing round reported when {@code parameterobject.stats} option is set.
+ */
+public class RoundStatistics {
+
+    private final int round;
+    private int methods;
+    private long resolveNanos;
+    private long buildNanos;
+    private long writeNanos;
+    private long phaseStart;
+
+    public RoundStatistics(int round) {
+        this.round = round;
+        this.phaseStart = System.nanoTime();
+    }
+
+    public void resolved(int methods) {
+        this.methods = methods;
+        this.resolveNanos = lap();
+    }
+
+    public void built() {
+        this.buildNanos = lap();
+    }
+
+    public void written() {
+        this.writeNanos = lap();
+    }
+
+    private long lap() {
+        final long now = System.nanoTime();
+        final long elapsed = now - phaseStart;
+        phaseStart = now;
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ParameterObject round %d: %d methods, resolved in %d ms, built in %d ms, written in %d ms",
+            round, methods, millis(resolveNanos), millis(buildNanos), millis(writeNanos));
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
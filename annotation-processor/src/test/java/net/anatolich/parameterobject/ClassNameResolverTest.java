@@ -133,6 +133,56 @@ class ClassNameResolverTest {
                 return (className == null) ? "" : className;
             }
 
+            @Override
+            public boolean mutableMap() {
+                return false;
+            }
+
+            @Override
+            public boolean checkArity() {
+                return true;
+            }
+
+            @Override
+            public String[] redacted() {
+                return new String[0];
+            }
+
+            @Override
+            public boolean batch() {
+                return false;
+            }
+
+            @Override
+            public CopyPolicy copyPolicy() {
+                return CopyPolicy.SHARE;
+            }
+
+            @Override
+            public boolean record() {
+                return true;
+            }
+
+            @Override
+            public boolean intern() {
+                return false;
+            }
+
+            @Override
+            public int internMaximumSize() {
+                return 10_000;
+            }
+
+            @Override
+            public boolean mutable() {
+                return false;
+            }
+
+            @Override
+            public boolean builder() {
+                return false;
+            }
+
             @Override
             public Class<? extends Annotation> annotationType() {
                 return ParameterObject.class;
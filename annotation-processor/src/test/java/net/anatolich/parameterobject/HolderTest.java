@@ -0,0 +1,125 @@
+package net.anatolich.parameterobject;
+
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HolderTest {
+
+    private static final JavaFileObject ACCOUNTS = TestCompiler.source("app.Accounts",
+        "package app;",
+        "import net.anatolich.parameterobject.ParameterObject;",
+        "import net.anatolich.parameterobject.ParameterObjectHolder;",
+        "@ParameterObjectHolder",
+        "public class Accounts {",
+        "    @ParameterObject public void open(String owner, int limit) {}",
+        "    @ParameterObject(className = \"CloseAll\", batch = true) public void close(long[] ids, String reason) {}",
+        "}");
+
+    @Test
+    void parameterObjectsAreNestedInSingleHolderSource(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = compile(output);
+
+        Assertions.assertThat(compilation.generatedSources())
+            .containsExactly(Paths.get("app", "AccountsParameters.java").toString());
+        Assertions.assertThat(compilation.originatingElements().get("app.AccountsParameters"))
+            .containsExactly("app.Accounts#open(java.lang.String,int)", "app.Accounts#close(long[],java.lang.String)");
+        Assertions.assertThat(compilation.classes().resolve("app/AccountsParameters$OpenParameters.class"))
+            .exists();
+        Assertions.assertThat(compilation.classes().resolve("app/AccountsParameters$CloseAllBatch.class"))
+            .exists();
+        Assertions.assertThat(Files.exists(compilation.classes().resolve("app/AccountsOpenParameters.class")))
+            .isFalse();
+    }
+
+    @Test
+    void holderDeclaresKeyConstantsAndRegistry(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = compile(output);
+
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            final Class<?> holder = classLoader.loadClass("app.AccountsParameters");
+            final Class<?> accounts = classLoader.loadClass("app.Accounts");
+            final String key = (String) holder.getField("OPEN_PARAMETERS_KEY").get(null);
+
+            Assertions.assertThat(key)
+                .isEqualTo(ParameterObjectFactory.key(accounts.getMethod("open", String.class, int.class)));
+            Assertions.assertThat(holder.getField("CLOSE_ALL_KEY").get(null))
+                .isEqualTo(ParameterObjectFactory.key(accounts.getMethod("close", long[].class, String.class)));
+
+            final ParameterObjectFactory<?> factory = (ParameterObjectFactory<?>) holder
+                .getMethod("forKey", String.class)
+                .invoke(null, key);
+            Assertions.assertThat(factory.type().getName()).isEqualTo("app.AccountsParameters$OpenParameters");
+            Assertions.assertThat(factory.fromArgs("jane", 100)).hasFieldOrPropertyWithValue("limit", 100);
+            Assertions.assertThat(factory.fromMap(Collections.singletonMap("limit", 5)))
+                .hasFieldOrPropertyWithValue("owner", null);
+        }
+    }
+
+    @Test
+    void globalRegistryRefersToNestedClasses(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = new TestCompiler(output)
+            .withOption("-Aparameterobject.registry=app.ParameterObjects")
+            .compile(ACCOUNTS);
+        Assertions.assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            final Class<?> accounts = classLoader.loadClass("app.Accounts");
+            final ParameterObjectFactory<?> factory = (ParameterObjectFactory<?>) classLoader
+                .loadClass("app.ParameterObjects")
+                .getMethod("forMethod", Method.class)
+                .invoke(null, accounts.getMethod("close", long[].class, String.class));
+
+            Assertions.assertThat(factory.type().getName()).isEqualTo("app.AccountsParameters$CloseAll");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void nestedParameterObjectsShareArgumentsView(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = compile(output);
+
+        Assertions.assertThat(compilation.classes().resolve("app/AccountsParameters$ArgumentsView.class")).exists();
+        Assertions.assertThat(Files.exists(
+            compilation.classes().resolve("app/AccountsParameters$OpenParameters$ArgumentsView.class"))).isFalse();
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            final Class<?> open = classLoader.loadClass("app.AccountsParameters$OpenParameters");
+            final Class<?> close = classLoader.loadClass("app.AccountsParameters$CloseAll");
+            final Object openParameters = open.getMethod("fromArgs", Object[].class)
+                .invoke(null, (Object) new Object[] {"jane", 100});
+            final Object closeParameters = close.getMethod("fromArgs", Object[].class)
+                .invoke(null, (Object) new Object[] {new long[] {1L}, "fraud"});
+
+            Assertions.assertThat((Map<String, Object>) open.getMethod("toMap").invoke(openParameters))
+                .containsEntry("owner", "jane")
+                .containsEntry("limit", 100)
+                .doesNotContainKey("reason")
+                .hasSize(2);
+            Assertions.assertThat((Map<String, Object>) close.getMethod("toMap").invoke(closeParameters))
+                .containsEntry("reason", "fraud")
+                .doesNotContainKey("owner");
+        }
+    }
+
+    private static TestCompiler.Compilation compile(Path output) {
+        final TestCompiler.Compilation compilation = new TestCompiler(output).compile(ACCOUNTS);
+        Assertions.assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        return compilation;
+    }
+
+    private static URLClassLoader classLoader(TestCompiler.Compilation compilation) throws MalformedURLException {
+        return new URLClassLoader(new URL[] {compilation.classes().toUri().toURL()},
+            HolderTest.class.getClassLoader());
+    }
+}
@@ -0,0 +1,99 @@
+package net.anatolich.parameterobject;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IncrementalProcessingTest {
+
+    private static final JavaFileObject ORDERS = TestCompiler.source("app.Orders",
+        "package app;",
+        "import net.anatolich.parameterobject.ParameterObject;",
+        "public class Orders {",
+        "    @ParameterObject public void place(String item, int quantity) {}",
+        "    @ParameterObject public void cancel(long orderId) {}",
+        "}");
+
+    private static final JavaFileObject USERS = TestCompiler.source("app.Users",
+        "package app;",
+        "import net.anatolich.parameterobject.ParameterObject;",
+        "public class Users {",
+        "    @ParameterObject public void create(String username) {}",
+        "}");
+
+    @Test
+    void processorIsRegisteredAsDynamic() throws IOException, URISyntaxException {
+        final URL registration = getClass().getResource("/META-INF/gradle/incremental.annotation.processors");
+
+        Assertions.assertThat(Files.readAllLines(Paths.get(registration.toURI())))
+            .containsExactly(ParameterObjectAnnotationProcessor.class.getName() + ",dynamic");
+    }
+
+    @Test
+    void processorIsIsolatingWithoutRegistry(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = new TestCompiler(output).compile(ORDERS);
+
+        Assertions.assertThat(compilation.supportedOptions())
+            .contains("org.gradle.annotation.processing.isolating")
+            .doesNotContain("org.gradle.annotation.processing.aggregating");
+    }
+
+    @Test
+    void processorIsAggregatingWithRegistry(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = new TestCompiler(output)
+            .withOption("-Aparameterobject.registry=app.ParameterObjects")
+            .compile(ORDERS, USERS);
+
+        Assertions.assertThat(compilation.supportedOptions())
+            .contains("org.gradle.annotation.processing.aggregating")
+            .doesNotContain("org.gradle.annotation.processing.isolating");
+        Assertions.assertThat(compilation.originatingElements().get("app.ParameterObjects"))
+            .containsExactlyInAnyOrder("app.Orders#place(java.lang.String,int)", "app.Orders#cancel(long)",
+                "app.Users#create(java.lang.String)");
+    }
+
+    @Test
+    void everyGeneratedClassHasItsAnnotatedMethodAsOnlyOrigin(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = new TestCompiler(output).compile(ORDERS, USERS);
+
+        Assertions.assertThat(compilation.isSuccess()).isTrue();
+        Assertions.assertThat(compilation.originatingElements())
+            .containsEntry("app.OrdersPlaceParameters", Collections.singletonList("app.Orders#place(java.lang.String,int)"))
+            .containsEntry("app.OrdersCancelParameters", Collections.singletonList("app.Orders#cancel(long)"))
+            .containsEntry("app.UsersCreateParameters", Collections.singletonList("app.Users#create(java.lang.String)"))
+            .hasSize(3);
+    }
+
+    @Test
+    void changingOneClassInvalidatesOnlyItsParameterObjects(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = new TestCompiler(output).compile(ORDERS, USERS);
+
+        Assertions.assertThat(compilation.isSuccess()).isTrue();
+        Assertions.assertThat(generatedFrom(compilation, "app.Orders"))
+            .containsExactlyInAnyOrder("app.OrdersPlaceParameters", "app.OrdersCancelParameters");
+        Assertions.assertThat(generatedFrom(compilation, "app.Users"))
+            .containsExactly("app.UsersCreateParameters");
+    }
+
+    /**
+     * Generated types an isolating processor is rerun for when the given type changes: Gradle deletes and
+     * regenerates every type having an originating element declared in it.
+     */
+    private static List<String> generatedFrom(TestCompiler.Compilation compilation, String typeName) {
+        return compilation.originatingElements().entrySet().stream()
+            .filter(generated -> generated.getValue().stream().anyMatch(origin -> origin.startsWith(typeName + "#")))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+}
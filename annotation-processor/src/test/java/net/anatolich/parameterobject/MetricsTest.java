@@ -0,0 +1,89 @@
+package net.anatolich.parameterobject;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import javax.management.ObjectName;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MetricsTest {
+
+    private static final JavaFileObject USERS = TestCompiler.source("metrics.Users",
+        "package metrics;",
+        "import java.util.HashSet;",
+        "import java.util.List;",
+        "import net.anatolich.parameterobject.ParameterObject;",
+        "public class Users {",
+        "    @ParameterObject public void create(String username, char[] password, HashSet<String> roles) {}",
+        "    @ParameterObject(mutableMap = true) public void tag(List<String> tags) {}",
+        "}");
+
+    @Test
+    void metricsAreNotGeneratedByDefault(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = new TestCompiler(output).compile(USERS);
+
+        Assertions.assertThat(compilation.generatedSource("metrics.UsersCreateParameters"))
+            .doesNotContain("Metrics");
+    }
+
+    @Test
+    void instrumentedClassesReportTraffic(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = new TestCompiler(output)
+            .withOption("-Aparameterobject.metrics=true")
+            .compile(USERS);
+        Assertions.assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {compilation.classes().toUri().toURL()},
+            getClass().getClassLoader())) {
+            final Class<?> createParameters = classLoader.loadClass("metrics.UsersCreateParameters");
+            final Object parameters = createParameters
+                .getConstructor(String.class, char[].class, HashSet.class)
+                .newInstance("jane", "secret".toCharArray(), new HashSet<>(Arrays.asList("admin", "user")));
+            final Method toMap = createParameters.getMethod("toMap");
+            final Method fromMap = createParameters.getMethod("fromMap", Map.class);
+            fromMap.invoke(null, toMap.invoke(parameters));
+            final Class<?> tagParameters = classLoader.loadClass("metrics.UsersTagParameters");
+            tagParameters.getMethod("toMap").invoke(tagParameters.getMethod("fromArgs", Object[].class)
+                .invoke(null, (Object) new Object[] {Collections.singletonList("new")}));
+
+            final ParameterObjectStatisticsMXBean create = LongAdderMetrics.instance()
+                .statistics("metrics.UsersCreateParameters");
+            Assertions.assertThat(create.getConstructed()).isEqualTo(2);
+            Assertions.assertThat(create.getToMapCalls()).isEqualTo(1);
+            Assertions.assertThat(create.getFromMapCalls()).isEqualTo(1);
+            Assertions.assertThat(create.getArgumentSizeTotals())
+                .containsEntry("password", 12L)
+                .containsEntry("roles", 4L)
+                .hasSize(2);
+            Assertions.assertThat(create.getArgumentSizeMaximums())
+                .containsEntry("password", 6L)
+                .containsEntry("roles", 2L);
+            Assertions.assertThat(LongAdderMetrics.instance().statistics("metrics.UsersTagParameters").getToMapCalls())
+                .isEqualTo(1);
+            Assertions.assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(new ObjectName(
+                "net.anatolich.parameterobject:type=ParameterObject,name=\"metrics.UsersCreateParameters\""),
+                "Constructed")).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    void failedRegistrationKeepsCounting() {
+        final LongAdderMetrics metrics = new LongAdderMetrics(() -> {
+            throw new SecurityException("MBean server is not accessible");
+        });
+
+        metrics.recorder("metrics.Denied").constructed();
+
+        Assertions.assertThat(metrics.statistics("metrics.Denied").getConstructed()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,63 @@
+package net.anatolich.parameterobject;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProcessorThroughputTest {
+
+    private static final int CLASSES = 20;
+    private static final int METHODS_PER_CLASS = 10;
+
+    @Test
+    void reportsRoundStatisticsWhenRequested(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = new TestCompiler(output)
+            .withOption("-proc:only")
+            .withOption("-A" + ParameterObjectAnnotationProcessor.STATS_OPTION + "=true")
+            .compile(syntheticSources());
+
+        Assertions.assertThat(compilation.isSuccess()).isTrue();
+        Assertions.assertThat(compilation.generatedSources()).hasSize(CLASSES * METHODS_PER_CLASS);
+        Assertions.assertThat(compilation.messages(Diagnostic.Kind.NOTE))
+            .anySatisfy(message -> Assertions.assertThat(message)
+                .startsWith("ParameterObject round 1: " + CLASSES * METHODS_PER_CLASS + " methods"));
+    }
+
+    @Test
+    void parallelBuildGeneratesSameSources(@TempDir Path output) {
+        final TestCompiler.Compilation parallel = new TestCompiler(output.resolve("parallel"))
+            .withOption("-proc:only")
+            .compile(syntheticSources());
+        final TestCompiler.Compilation sequential = new TestCompiler(output.resolve("sequential"))
+            .withOption("-proc:only")
+            .withOption("-A" + ParameterObjectAnnotationProcessor.PARALLEL_OPTION + "=false")
+            .compile(syntheticSources());
+
+        Assertions.assertThat(parallel.generatedSources()).isEqualTo(sequential.generatedSources());
+        Assertions.assertThat(parallel.generatedSource("app.Service7Method3Parameters"))
+            .isEqualTo(sequential.generatedSource("app.Service7Method3Parameters"));
+    }
+
+    private static JavaFileObject[] syntheticSources() {
+        final List<JavaFileObject> sources = new ArrayList<>();
+        for (int c = 0; c < CLASSES; c++) {
+            final List<String> lines = new ArrayList<>();
+            lines.add("package app;");
+            lines.add("import java.util.List;");
+            lines.add("import net.anatolich.parameterobject.ParameterObject;");
+            lines.add("public class Service" + c + " {");
+            for (int m = 0; m < METHODS_PER_CLASS; m++) {
+                lines.add("    @ParameterObject public void method" + m
+                    + "(String name, int count, long[] values, List<String> tags) {}");
+            }
+            lines.add("}");
+            sources.add(TestCompiler.source("app.Service" + c, lines.toArray(new String[0])));
+        }
+        return sources.toArray(new JavaFileObject[0]);
+    }
+}
@@ -0,0 +1,155 @@
+package net.anatolich.parameterobject;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeSpec;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RecordTest {
+
+    private static final JavaFileObject SCORES = TestCompiler.source("app.Scores",
+        "package app;",
+        "import java.util.List;",
+        "import net.anatolich.parameterobject.CopyPolicy;",
+        "import net.anatolich.parameterobject.ParameterObject;",
+        "public class Scores {",
+        "    @ParameterObject(copyPolicy = CopyPolicy.COPY_ON_READ)",
+        "    public void submit(String player, int[] points, List<String> tags) {}",
+        "    @ParameterObject(record = false) public void reset(String player) {}",
+        "    @ParameterObject(redacted = \"token\") public void login(String player, String token) {}",
+        "}");
+
+    @Test
+    void recordsAreGeneratedForModernSourceLevels(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = compile(records(new TestCompiler(output)));
+
+        Assertions.assertThat(compilation.generatedSource("app.ScoresSubmitParameters"))
+            .contains("public record ScoresSubmitParameters(java.lang.String player, int[] points, "
+                + "java.util.List<java.lang.String> tags) implements")
+            .doesNotContain("hashCodeCache");
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            Assertions.assertThat(classLoader.loadClass("app.ScoresSubmitParameters").getSuperclass().getName())
+                .isEqualTo("java.lang.Record");
+            Assertions.assertThat(classLoader.loadClass("app.ScoresResetParameters").getSuperclass())
+                .isEqualTo(Object.class);
+        }
+    }
+
+    @Test
+    void recordsKeepParameterObjectSemantics(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = compile(records(new TestCompiler(output)));
+
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            final Class<?> submit = classLoader.loadClass("app.ScoresSubmitParameters");
+            final Object first = submit.getMethod("fromArgs", Object[].class)
+                .invoke(null, (Object) new Object[] {"jane", new int[] {1, 2}, Collections.singletonList("a")});
+            @SuppressWarnings("unchecked") final Map<String, Object> map = (Map<String, Object>) submit
+                .getMethod("toMap").invoke(first);
+            final Object second = submit.getMethod("fromMap", Map.class).invoke(null, map);
+
+            Assertions.assertThat(second).isEqualTo(first);
+            Assertions.assertThat(second.hashCode()).isEqualTo(first.hashCode());
+            final int[] points = (int[]) submit.getMethod("points").invoke(first);
+            points[0] = 42;
+            Assertions.assertThat((int[]) submit.getMethod("getPoints").invoke(first)).containsExactly(1, 2);
+        }
+    }
+
+    @Test
+    void withMethodsOfRecordsGoThroughCanonicalConstructor(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = compile(records(new TestCompiler(output)));
+
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            final Class<?> submit = classLoader.loadClass("app.ScoresSubmitParameters");
+            final Object first = submit.getMethod("fromArgs", Object[].class)
+                .invoke(null, (Object) new Object[] {"jane", new int[] {1, 2}, Collections.singletonList("a")});
+            final Object second = submit.getMethod("withPlayer", String.class).invoke(first, "john");
+
+            Assertions.assertThat(submit.getMethod("player").invoke(second)).isEqualTo("john");
+            Assertions.assertThat(submit.getMethod("tags").invoke(second))
+                .isEqualTo(submit.getMethod("tags").invoke(first));
+        }
+    }
+
+    @Test
+    void classesAreGeneratedForJava8(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = compile(records(new TestCompiler(output))
+            .withOption("--release")
+            .withOption("8"));
+
+        Assertions.assertThat(compilation.generatedSource("app.ScoresSubmitParameters"))
+            .contains("public final class ScoresSubmitParameters implements");
+    }
+
+    @Test
+    void recordsAreOptIn(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = compile(new TestCompiler(output));
+
+        Assertions.assertThat(compilation.generatedSource("app.ScoresSubmitParameters"))
+            .contains("public final class ScoresSubmitParameters implements");
+    }
+
+    @Test
+    void recordToStringMasksRedactedParameters(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = compile(records(new TestCompiler(output)));
+
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            final Object login = classLoader.loadClass("app.ScoresLoginParameters")
+                .getConstructor(String.class, String.class)
+                .newInstance("jane", "secret");
+
+            Assertions.assertThat(login.toString()).isEqualTo("ScoresLoginParameters[player=jane, token=***]");
+        }
+    }
+
+    @Test
+    void missingRecordDeclarationFailsRendering() {
+        final TypeSpec type = TypeSpec.classBuilder("Scores").build();
+
+        Assertions.assertThatThrownBy(() -> GeneratedSource.render(ClassName.get("app", "Scores"), type,
+            Collections.singletonMap("Other", "int points")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Cannot declare Other as a record, found 0 class declarations");
+    }
+
+    @Test
+    void renderingFailureKeepsOtherSources(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = records(new TestCompiler(output))
+            .withOption("-proc:only")
+            .compile(TestCompiler.source("app.Shop",
+                "package app;",
+                "import net.anatolich.parameterobject.ParameterObject;",
+                "public class Shop {",
+                "    @ParameterObject(className = \"Lazy\") public void order(String item) {}",
+                "    @ParameterObject public void cancel(String item) {}",
+                "}"));
+
+        Assertions.assertThat(compilation.messages(Diagnostic.Kind.ERROR)).containsExactly(
+            "Cannot generate parameters class. Cannot declare Lazy as a record, found 2 class declarations");
+        Assertions.assertThat(compilation.generatedSource("app.ShopCancelParameters")).contains("public record");
+    }
+
+    private static TestCompiler records(TestCompiler compiler) {
+        return compiler.withOption("-Aparameterobject.records=true");
+    }
+
+    private static TestCompiler.Compilation compile(TestCompiler compiler) {
+        final TestCompiler.Compilation compilation = compiler.compile(SCORES);
+        Assertions.assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        return compilation;
+    }
+
+    private static URLClassLoader classLoader(TestCompiler.Compilation compilation) throws MalformedURLException {
+        return new URLClassLoader(new URL[] {compilation.classes().toUri().toURL()},
+            RecordTest.class.getClassLoader());
+    }
+}
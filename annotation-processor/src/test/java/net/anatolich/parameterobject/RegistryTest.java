@@ -0,0 +1,137 @@
+package net.anatolich.parameterobject;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RegistryTest {
+
+    private static final JavaFileObject ORDERS = TestCompiler.source("app.Orders",
+        "package app;",
+        "import java.util.List;",
+        "import net.anatolich.parameterobject.ParameterObject;",
+        "public class Orders {",
+        "    @ParameterObject public void place(String item, int quantity) {}",
+        "    @ParameterObject(className = \"OrdersPlaceAllParameters\")",
+        "    public void place(String[] items, List<String> notes) {}",
+        "    @ParameterObject public void discount(Number value, Nested nested) {}",
+        "    public static class Nested {}",
+        "}");
+
+    @Test
+    void registryIsNotGeneratedByDefault(@TempDir Path output) {
+        final TestCompiler.Compilation compilation = new TestCompiler(output).compile(ORDERS);
+
+        Assertions.assertThat(compilation.originatingElements()).doesNotContainKey("app.ParameterObjects");
+    }
+
+    @Test
+    void registryFindsFactoriesByMethod(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = compileWithRegistry(output);
+
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            final Class<?> orders = classLoader.loadClass("app.Orders");
+            final Method place = orders.getMethod("place", String.class, int.class);
+
+            final ParameterObjectFactory<?> factory = forMethod(classLoader, place);
+
+            Assertions.assertThat(factory.type().getName()).isEqualTo("app.OrdersPlaceParameters");
+            Assertions.assertThat(factory.fromArgs("book", 2)).hasFieldOrPropertyWithValue("quantity", 2);
+            final Map<String, Object> parameters = new HashMap<>();
+            parameters.put("item", "pen");
+            parameters.put("quantity", 3);
+            Assertions.assertThat(factory.fromMap(parameters)).hasFieldOrPropertyWithValue("item", "pen");
+        }
+    }
+
+    @Test
+    void keysMatchReflectiveMethodSignatures(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = compileWithRegistry(output);
+
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            final Class<?> orders = classLoader.loadClass("app.Orders");
+            final Class<?> registry = classLoader.loadClass("app.ParameterObjects");
+            @SuppressWarnings("unchecked") final Set<String> keys = (Set<String>) registry.getMethod("keys")
+                .invoke(null);
+
+            Assertions.assertThat(keys).containsExactlyInAnyOrder(
+                ParameterObjectFactory.key(orders.getMethod("place", String.class, int.class)),
+                ParameterObjectFactory.key(orders.getMethod("place", String[].class, List.class)),
+                ParameterObjectFactory.key(orders.getMethod("discount", Number.class,
+                    classLoader.loadClass("app.Orders$Nested"))));
+            Assertions.assertThat(keys).contains("app.Orders#discount(java.lang.Number,app.Orders$Nested)");
+        }
+    }
+
+    @Test
+    void lookupOfMethodWithoutParameterObjectReturnsNull(@TempDir Path output) throws Exception {
+        final TestCompiler.Compilation compilation = compileWithRegistry(output);
+
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            Assertions.assertThat(forMethod(classLoader, Object.class.getMethod("toString"))).isNull();
+        }
+    }
+
+    @Test
+    void registryDispatchesFactoriesWithoutMethodReferences(@TempDir Path output) throws Exception {
+        final int methods = 300;
+        final String[] lines = new String[methods + 4];
+        lines[0] = "package app;";
+        lines[1] = "import net.anatolich.parameterobject.ParameterObject;";
+        lines[2] = "public class Many {";
+        for (int i = 0; i < methods; i++) {
+            lines[i + 3] = "    @ParameterObject public void method" + i + "(int value) {}";
+        }
+        lines[methods + 3] = "}";
+        final TestCompiler.Compilation compilation = new TestCompiler(output)
+            .withOption("-Aparameterobject.registry=app.ParameterObjects")
+            .compile(TestCompiler.source("app.Many", lines));
+        Assertions.assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        Assertions.assertThat(compilation.generatedSource("app.ParameterObjects")).doesNotContain("::");
+
+        try (URLClassLoader classLoader = classLoader(compilation)) {
+            final Class<?> many = classLoader.loadClass("app.Many");
+            final ParameterObjectFactory<?> first = forMethod(classLoader, many.getMethod("method0", int.class));
+            final ParameterObjectFactory<?> last = forMethod(classLoader, many.getMethod("method299", int.class));
+
+            Assertions.assertThat(first.fromArgs(1)).isInstanceOf(first.type());
+            Assertions.assertThat(last.type().getName()).isEqualTo("app.ManyMethod299Parameters");
+            Assertions.assertThat(last.fromArgs(7)).hasFieldOrPropertyWithValue("value", 7);
+            Assertions.assertThat(last.fromMap(Collections.singletonMap("value", 8)))
+                .hasFieldOrPropertyWithValue("value", 8);
+        }
+    }
+
+    private static TestCompiler.Compilation compileWithRegistry(Path output) {
+        final TestCompiler.Compilation compilation = new TestCompiler(output)
+            .withOption("-Aparameterobject.registry=app.ParameterObjects")
+            .compile(ORDERS);
+        Assertions.assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        return compilation;
+    }
+
+    private static URLClassLoader classLoader(TestCompiler.Compilation compilation) throws MalformedURLException {
+        return new URLClassLoader(new URL[] {compilation.classes().toUri().toURL()},
+            RegistryTest.class.getClassLoader());
+    }
+
+    private static ParameterObjectFactory<?> forMethod(ClassLoader classLoader, Method method)
+        throws ReflectiveOperationException, IOException {
+        return (ParameterObjectFactory<?>) classLoader.loadClass("app.ParameterObjects")
+            .getMethod("forMethod", Method.class)
+            .invoke(null, method);
+    }
+}
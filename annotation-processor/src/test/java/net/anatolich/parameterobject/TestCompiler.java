@@ -0,0 +1,298 @@
+package net.anatolich.parameterobject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles sources with {@link ParameterObjectAnnotationProcessor} and records what the processor generates.
+ */
+final class TestCompiler {
+
+    private final Path outputDirectory;
+    private final List<String> options = new ArrayList<>();
+
+    TestCompiler(Path outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    TestCompiler withOption(String option) {
+        options.add(option);
+        return this;
+    }
+
+    static JavaFileObject source(String className, String... lines) {
+        return new SimpleJavaFileObject(
+            URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+            JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return String.join("\n", lines);
+            }
+        };
+    }
+
+    Compilation compile(JavaFileObject... sources) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final Path classes = directory("classes");
+        final Path generated = directory("generated");
+        final List<String> arguments = new ArrayList<>(Arrays.asList(
+            "-classpath", System.getProperty("java.class.path"),
+            "-d", classes.toString(),
+            "-s", generated.toString()));
+        arguments.addAll(options);
+        final Map<String, List<String>> originatingElements = new LinkedHashMap<>();
+        final Set<String> supportedOptions = new HashSet<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, arguments,
+                null, Arrays.asList(sources));
+            final ParameterObjectAnnotationProcessor processor = new ParameterObjectAnnotationProcessor();
+            task.setProcessors(Arrays.asList(new RecordingProcessor(processor, originatingElements)));
+            final boolean success = task.call();
+            supportedOptions.addAll(processor.getSupportedOptions());
+            return new Compilation(success, diagnostics.getDiagnostics(), originatingElements, supportedOptions,
+                generated, classes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path directory(String name) {
+        try {
+            return Files.createDirectories(outputDirectory.resolve(name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static final class Compilation {
+
+        private final boolean success;
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+        private final Map<String, List<String>> originatingElements;
+        private final Set<String> supportedOptions;
+        private final Path generatedSources;
+        private final Path classes;
+
+        private Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics,
+            Map<String, List<String>> originatingElements, Set<String> supportedOptions, Path generatedSources,
+            Path classes) {
+            this.success = success;
+            this.diagnostics = diagnostics;
+            this.originatingElements = originatingElements;
+            this.supportedOptions = supportedOptions;
+            this.generatedSources = generatedSources;
+            this.classes = classes;
+        }
+
+        boolean isSuccess() {
+            return success;
+        }
+
+        List<String> messages(Diagnostic.Kind kind) {
+            return diagnostics.stream()
+                .filter(d -> d.getKind() == kind)
+                .map(d -> d.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+        }
+
+        /**
+         * Originating elements of each generated source by the generated type name.
+         */
+        Map<String, List<String>> originatingElements() {
+            return originatingElements;
+        }
+
+        /**
+         * Options the processor declared after it was initialized by the compiler.
+         */
+        Set<String> supportedOptions() {
+            return supportedOptions;
+        }
+
+        String generatedSource(String className) {
+            try {
+                return new String(Files.readAllBytes(
+                    generatedSources.resolve(className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        List<String> generatedSources() {
+            try (Stream<Path> files = Files.walk(generatedSources)) {
+                return files.filter(Files::isRegularFile)
+                    .map(generatedSources::relativize)
+                    .map(Path::toString)
+                    .sorted()
+                    .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Path classes() {
+            return classes;
+        }
+    }
+
+    private static final class RecordingProcessor implements Processor {
+
+        private final Processor delegate;
+        private final Map<String, List<String>> originatingElements;
+
+        private RecordingProcessor(Processor delegate, Map<String, List<String>> originatingElements) {
+            this.delegate = delegate;
+            this.originatingElements = originatingElements;
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return delegate.getSupportedOptions();
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return delegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return delegate.getSupportedSourceVersion();
+        }
+
+        @Override
+        public void init(ProcessingEnvironment processingEnv) {
+            delegate.init(new RecordingProcessingEnvironment(processingEnv, originatingElements));
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return delegate.process(annotations, roundEnv);
+        }
+
+        @Override
+        public Iterable<? extends Completion> getCompletions(Element element, AnnotationMirror annotation,
+            ExecutableElement member, String userText) {
+            return delegate.getCompletions(element, annotation, member, userText);
+        }
+    }
+
+    private static final class RecordingProcessingEnvironment implements ProcessingEnvironment {
+
+        private final ProcessingEnvironment delegate;
+        private final Filer filer;
+
+        private RecordingProcessingEnvironment(ProcessingEnvironment delegate,
+            Map<String, List<String>> originatingElements) {
+            this.delegate = delegate;
+            this.filer = new RecordingFiler(delegate.getFiler(), originatingElements);
+        }
+
+        @Override
+        public Map<String, String> getOptions() {
+            return delegate.getOptions();
+        }
+
+        @Override
+        public Messager getMessager() {
+            return delegate.getMessager();
+        }
+
+        @Override
+        public Filer getFiler() {
+            return filer;
+        }
+
+        @Override
+        public Elements getElementUtils() {
+            return delegate.getElementUtils();
+        }
+
+        @Override
+        public Types getTypeUtils() {
+            return delegate.getTypeUtils();
+        }
+
+        @Override
+        public SourceVersion getSourceVersion() {
+            return delegate.getSourceVersion();
+        }
+
+        @Override
+        public Locale getLocale() {
+            return delegate.getLocale();
+        }
+    }
+
+    private static final class RecordingFiler implements Filer {
+
+        private final Filer delegate;
+        private final Map<String, List<String>> originatingElements;
+
+        private RecordingFiler(Filer delegate, Map<String, List<String>> originatingElements) {
+            this.delegate = delegate;
+            this.originatingElements = originatingElements;
+        }
+
+        @Override
+        public JavaFileObject createSourceFile(CharSequence name, Element... elements) throws IOException {
+            originatingElements.put(name.toString(), Arrays.stream(elements)
+                .map(e -> e.getEnclosingElement() + "#" + e)
+                .collect(Collectors.toList()));
+            return delegate.createSourceFile(name, elements);
+        }
+
+        @Override
+        public JavaFileObject createClassFile(CharSequence name, Element... elements) throws IOException {
+            return delegate.createClassFile(name, elements);
+        }
+
+        @Override
+        public FileObject createResource(Location location, CharSequence moduleAndPkg, CharSequence relativeName,
+            Element... elements) throws IOException {
+            return delegate.createResource(location, moduleAndPkg, relativeName, elements);
+        }
+
+        @Override
+        public FileObject getResource(Location location, CharSequence moduleAndPkg, CharSequence relativeName)
+            throws IOException {
+            return delegate.getResource(location, moduleAndPkg, relativeName);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package net.anatolich.parameterobject;
+
+/**
+ * Receives parameters of a parameter object one by one in declaration order.
+ * Primitive parameters are passed to their dedicated callbacks without boxing.
+ * The default implementations of the primitive callbacks box the value and delegate to {@link #visitObject}.
+ */
+public interface ArgumentsVisitor {
+
+    void visitObject(String name, Object value);
+
+    default void visitBoolean(String name, boolean value) {
+        visitObject(name, value);
+    }
+
+    default void visitByte(String name, byte value) {
+        visitObject(name, value);
+    }
+
+    default void visitShort(String name, short value) {
+        visitObject(name, value);
+    }
+
+    default void visitChar(String name, char value) {
+        visitObject(name, value);
+    }
+
+    default void visitInt(String name, int value) {
+        visitObject(name, value);
+    }
+
+    default void visitLong(String name, long value) {
+        visitObject(name, value);
+    }
+
+    default void visitFloat(String name, float value) {
+        visitObject(name, value);
+    }
+
+    default void visitDouble(String name, double value) {
+        visitObject(name, value);
+    }
+}
@@ -0,0 +1,18 @@
+package net.anatolich.parameterobject;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes and reads values of a single type directly to and from a {@link ByteBuffer}.
+ */
+public interface BinaryCodec<T> {
+
+    void write(ByteBuffer buffer, T value);
+
+    T read(ByteBuffer buffer);
+
+    /**
+     * Number of bytes {@link #write} puts into the buffer for a given value.
+     */
+    int sizeOf(T value);
+}
@@ -0,0 +1,527 @@
+package net.anatolich.parameterobject;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Codecs used by generated {@code writeTo(ByteBuffer)} and {@code readFrom(ByteBuffer)} methods.
+ * Strings, arrays and collections are prefixed with their length, {@code -1} length stands for {@code null}.
+ * Boxed values are prefixed with a presence byte.
+ */
+public final class BinaryCodecs {
+
+    private static final int NULL_LENGTH = -1;
+
+    public static final BinaryCodec<String> STRING = new BinaryCodec<String>() {
+        @Override
+        public void write(ByteBuffer buffer, String value) {
+            if (value == null) {
+                buffer.putInt(NULL_LENGTH);
+                return;
+            }
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer) {
+            final int length = buffer.getInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            if (buffer.hasArray()) {
+                final int position = buffer.position();
+                buffer.position(position + length);
+                return new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+            }
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int sizeOf(String value) {
+            return Integer.BYTES + (value == null ? 0 : utf8Length(value));
+        }
+    };
+
+    public static final BinaryCodec<Boolean> BOOLEAN = new NullableCodec<Boolean>(1) {
+        @Override
+        void writeValue(ByteBuffer buffer, Boolean value) {
+            buffer.put((byte) (value ? 1 : 0));
+        }
+
+        @Override
+        Boolean readValue(ByteBuffer buffer) {
+            return buffer.get() != 0;
+        }
+    };
+
+    public static final BinaryCodec<Byte> BYTE = new NullableCodec<Byte>(Byte.BYTES) {
+        @Override
+        void writeValue(ByteBuffer buffer, Byte value) {
+            buffer.put(value);
+        }
+
+        @Override
+        Byte readValue(ByteBuffer buffer) {
+            return buffer.get();
+        }
+    };
+
+    public static final BinaryCodec<Short> SHORT = new NullableCodec<Short>(Short.BYTES) {
+        @Override
+        void writeValue(ByteBuffer buffer, Short value) {
+            buffer.putShort(value);
+        }
+
+        @Override
+        Short readValue(ByteBuffer buffer) {
+            return buffer.getShort();
+        }
+    };
+
+    public static final BinaryCodec<Character> CHARACTER = new NullableCodec<Character>(Character.BYTES) {
+        @Override
+        void writeValue(ByteBuffer buffer, Character value) {
+            buffer.putChar(value);
+        }
+
+        @Override
+        Character readValue(ByteBuffer buffer) {
+            return buffer.getChar();
+        }
+    };
+
+    public static final BinaryCodec<Integer> INTEGER = new NullableCodec<Integer>(Integer.BYTES) {
+        @Override
+        void writeValue(ByteBuffer buffer, Integer value) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        Integer readValue(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    public static final BinaryCodec<Long> LONG = new NullableCodec<Long>(Long.BYTES) {
+        @Override
+        void writeValue(ByteBuffer buffer, Long value) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        Long readValue(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    public static final BinaryCodec<Float> FLOAT = new NullableCodec<Float>(Float.BYTES) {
+        @Override
+        void writeValue(ByteBuffer buffer, Float value) {
+            buffer.putFloat(value);
+        }
+
+        @Override
+        Float readValue(ByteBuffer buffer) {
+            return buffer.getFloat();
+        }
+    };
+
+    public static final BinaryCodec<Double> DOUBLE = new NullableCodec<Double>(Double.BYTES) {
+        @Override
+        void writeValue(ByteBuffer buffer, Double value) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        Double readValue(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+
+    public static final BinaryCodec<boolean[]> BOOLEAN_ARRAY = new ArrayCodec<boolean[]>(1) {
+        @Override
+        int length(boolean[] array) {
+            return array.length;
+        }
+
+        @Override
+        void putElements(ByteBuffer buffer, boolean[] array) {
+            for (boolean element : array) {
+                buffer.put((byte) (element ? 1 : 0));
+            }
+        }
+
+        @Override
+        boolean[] getElements(ByteBuffer buffer, int length) {
+            final boolean[] array = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = buffer.get() != 0;
+            }
+            return array;
+        }
+    };
+
+    public static final BinaryCodec<byte[]> BYTE_ARRAY = new ArrayCodec<byte[]>(Byte.BYTES) {
+        @Override
+        int length(byte[] array) {
+            return array.length;
+        }
+
+        @Override
+        void putElements(ByteBuffer buffer, byte[] array) {
+            buffer.put(array);
+        }
+
+        @Override
+        byte[] getElements(ByteBuffer buffer, int length) {
+            final byte[] array = new byte[length];
+            buffer.get(array);
+            return array;
+        }
+    };
+
+    public static final BinaryCodec<short[]> SHORT_ARRAY = new ArrayCodec<short[]>(Short.BYTES) {
+        @Override
+        int length(short[] array) {
+            return array.length;
+        }
+
+        @Override
+        void putElements(ByteBuffer buffer, short[] array) {
+            buffer.asShortBuffer().put(array);
+            skip(buffer, array.length);
+        }
+
+        @Override
+        short[] getElements(ByteBuffer buffer, int length) {
+            final short[] array = new short[length];
+            buffer.asShortBuffer().get(array);
+            skip(buffer, length);
+            return array;
+        }
+    };
+
+    public static final BinaryCodec<char[]> CHAR_ARRAY = new ArrayCodec<char[]>(Character.BYTES) {
+        @Override
+        int length(char[] array) {
+            return array.length;
+        }
+
+        @Override
+        void putElements(ByteBuffer buffer, char[] array) {
+            buffer.asCharBuffer().put(array);
+            skip(buffer, array.length);
+        }
+
+        @Override
+        char[] getElements(ByteBuffer buffer, int length) {
+            final char[] array = new char[length];
+            buffer.asCharBuffer().get(array);
+            skip(buffer, length);
+            return array;
+        }
+    };
+
+    public static final BinaryCodec<int[]> INT_ARRAY = new ArrayCodec<int[]>(Integer.BYTES) {
+        @Override
+        int length(int[] array) {
+            return array.length;
+        }
+
+        @Override
+        void putElements(ByteBuffer buffer, int[] array) {
+            buffer.asIntBuffer().put(array);
+            skip(buffer, array.length);
+        }
+
+        @Override
+        int[] getElements(ByteBuffer buffer, int length) {
+            final int[] array = new int[length];
+            buffer.asIntBuffer().get(array);
+            skip(buffer, length);
+            return array;
+        }
+    };
+
+    public static final BinaryCodec<long[]> LONG_ARRAY = new ArrayCodec<long[]>(Long.BYTES) {
+        @Override
+        int length(long[] array) {
+            return array.length;
+        }
+
+        @Override
+        void putElements(ByteBuffer buffer, long[] array) {
+            buffer.asLongBuffer().put(array);
+            skip(buffer, array.length);
+        }
+
+        @Override
+        long[] getElements(ByteBuffer buffer, int length) {
+            final long[] array = new long[length];
+            buffer.asLongBuffer().get(array);
+            skip(buffer, length);
+            return array;
+        }
+    };
+
+    public static final BinaryCodec<float[]> FLOAT_ARRAY = new ArrayCodec<float[]>(Float.BYTES) {
+        @Override
+        int length(float[] array) {
+            return array.length;
+        }
+
+        @Override
+        void putElements(ByteBuffer buffer, float[] array) {
+            buffer.asFloatBuffer().put(array);
+            skip(buffer, array.length);
+        }
+
+        @Override
+        float[] getElements(ByteBuffer buffer, int length) {
+            final float[] array = new float[length];
+            buffer.asFloatBuffer().get(array);
+            skip(buffer, length);
+            return array;
+        }
+    };
+
+    public static final BinaryCodec<double[]> DOUBLE_ARRAY = new ArrayCodec<double[]>(Double.BYTES) {
+        @Override
+        int length(double[] array) {
+            return array.length;
+        }
+
+        @Override
+        void putElements(ByteBuffer buffer, double[] array) {
+            buffer.asDoubleBuffer().put(array);
+            skip(buffer, array.length);
+        }
+
+        @Override
+        double[] getElements(ByteBuffer buffer, int length) {
+            final double[] array = new double[length];
+            buffer.asDoubleBuffer().get(array);
+            skip(buffer, length);
+            return array;
+        }
+    };
+
+    public static final BinaryCodec<String[]> STRING_ARRAY = new BinaryCodec<String[]>() {
+        @Override
+        public void write(ByteBuffer buffer, String[] value) {
+            if (value == null) {
+                buffer.putInt(NULL_LENGTH);
+                return;
+            }
+            buffer.putInt(value.length);
+            for (String element : value) {
+                STRING.write(buffer, element);
+            }
+        }
+
+        @Override
+        public String[] read(ByteBuffer buffer) {
+            final int length = buffer.getInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            final String[] array = new String[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = STRING.read(buffer);
+            }
+            return array;
+        }
+
+        @Override
+        public int sizeOf(String[] value) {
+            int size = Integer.BYTES;
+            if (value != null) {
+                for (String element : value) {
+                    size += STRING.sizeOf(element);
+                }
+            }
+            return size;
+        }
+    };
+
+    private BinaryCodecs() {
+        throw new UnsupportedOperationException("must not be instantiated");
+    }
+
+    public static <E> void writeCollection(ByteBuffer buffer, Collection<E> collection, BinaryCodec<E> elementCodec) {
+        if (collection == null) {
+            buffer.putInt(NULL_LENGTH);
+            return;
+        }
+        buffer.putInt(collection.size());
+        for (E element : collection) {
+            elementCodec.write(buffer, element);
+        }
+    }
+
+    public static <E> List<E> readList(ByteBuffer buffer, BinaryCodec<E> elementCodec) {
+        final int size = buffer.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        final List<E> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(elementCodec.read(buffer));
+        }
+        return list;
+    }
+
+    public static <E> Set<E> readSet(ByteBuffer buffer, BinaryCodec<E> elementCodec) {
+        final int size = buffer.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        final Set<E> set = new LinkedHashSet<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            set.add(elementCodec.read(buffer));
+        }
+        return set;
+    }
+
+    public static <E> int sizeOfCollection(Collection<E> collection, BinaryCodec<E> elementCodec) {
+        int size = Integer.BYTES;
+        if (collection != null) {
+            for (E element : collection) {
+                size += elementCodec.sizeOf(element);
+            }
+        }
+        return size;
+    }
+
+    public static void writeEnum(ByteBuffer buffer, Enum<?> value) {
+        STRING.write(buffer, value == null ? null : value.name());
+    }
+
+    public static <E extends Enum<E>> E readEnum(ByteBuffer buffer, Class<E> type) {
+        final String name = STRING.read(buffer);
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    public static int sizeOfEnum(Enum<?> value) {
+        return STRING.sizeOf(value == null ? null : value.name());
+    }
+
+    /**
+     * Checks the schema hash written in front of a parameter object.
+     */
+    public static void checkSchema(ByteBuffer buffer, int expectedSchemaHash, String parameterObjectName) {
+        final int schemaHash = buffer.getInt();
+        if (schemaHash != expectedSchemaHash) {
+            throw new IllegalArgumentException(String.format(
+                "Schema hash %08x does not match %s schema hash %08x",
+                schemaHash, parameterObjectName, expectedSchemaHash));
+        }
+    }
+
+    /**
+     * Length of the value encoded as UTF-8. Unpaired surrogates are counted as one byte, the encoder replaces
+     * them with {@code '?'}.
+     */
+    static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private abstract static class NullableCodec<T> implements BinaryCodec<T> {
+
+        private final int valueSize;
+
+        NullableCodec(int valueSize) {
+            this.valueSize = valueSize;
+        }
+
+        abstract void writeValue(ByteBuffer buffer, T value);
+
+        abstract T readValue(ByteBuffer buffer);
+
+        @Override
+        public void write(ByteBuffer buffer, T value) {
+            if (value == null) {
+                buffer.put((byte) 0);
+            } else {
+                buffer.put((byte) 1);
+                writeValue(buffer, value);
+            }
+        }
+
+        @Override
+        public T read(ByteBuffer buffer) {
+            return buffer.get() == 0 ? null : readValue(buffer);
+        }
+
+        @Override
+        public int sizeOf(T value) {
+            return value == null ? 1 : 1 + valueSize;
+        }
+    }
+
+    private abstract static class ArrayCodec<T> implements BinaryCodec<T> {
+
+        private final int elementSize;
+
+        ArrayCodec(int elementSize) {
+            this.elementSize = elementSize;
+        }
+
+        abstract int length(T array);
+
+        abstract void putElements(ByteBuffer buffer, T array);
+
+        abstract T getElements(ByteBuffer buffer, int length);
+
+        void skip(ByteBuffer buffer, int length) {
+            buffer.position(buffer.position() + length * elementSize);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, T value) {
+            if (value == null) {
+                buffer.putInt(NULL_LENGTH);
+                return;
+            }
+            buffer.putInt(length(value));
+            putElements(buffer, value);
+        }
+
+        @Override
+        public T read(ByteBuffer buffer) {
+            final int length = buffer.getInt();
+            return length == NULL_LENGTH ? null : getElements(buffer, length);
+        }
+
+        @Override
+        public int sizeOf(T value) {
+            return Integer.BYTES + (value == null ? 0 : length(value) * elementSize);
+        }
+    }
+}
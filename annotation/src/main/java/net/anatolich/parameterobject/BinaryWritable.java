@@ -0,0 +1,17 @@
+package net.anatolich.parameterobject;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parameter object with a generated binary codec.
+ * Generated classes also declare a static {@code readFrom(ByteBuffer)} factory reading what {@link #writeTo} writes.
+ */
+public interface BinaryWritable {
+
+    /**
+     * Exact number of bytes {@link #writeTo} puts into the buffer.
+     */
+    int binarySize();
+
+    void writeTo(ByteBuffer buffer);
+}
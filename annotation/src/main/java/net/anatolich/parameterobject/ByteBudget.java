@@ -0,0 +1,66 @@
+package net.anatolich.parameterobject;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe budget of heap bytes for buffers of {@link SizeEstimated} objects. A buffer acquires the estimated
+ * size of an object before accepting it and releases it once the object leaves the buffer.
+ * <p>
+ * An object larger than the whole budget is only accepted when nothing else is held, so it can still pass
+ * through an otherwise empty buffer.
+ */
+public final class ByteBudget {
+
+    private final long limitBytes;
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    public ByteBudget(long limitBytes) {
+        if (limitBytes <= 0) {
+            throw new IllegalArgumentException("Byte limit must be positive but was " + limitBytes);
+        }
+        this.limitBytes = limitBytes;
+    }
+
+    /**
+     * @return estimated size acquired for the object or {@code -1} if the budget is exhausted
+     */
+    public long tryAcquire(SizeEstimated object) {
+        final long size = object.estimatedSizeBytes();
+        return tryAcquire(size) ? size : -1;
+    }
+
+    public boolean tryAcquire(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Cannot acquire negative number of bytes " + bytes);
+        }
+        while (true) {
+            final long used = usedBytes.get();
+            if (used + bytes > limitBytes && used != 0) {
+                return false;
+            }
+            if (usedBytes.compareAndSet(used, used + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long bytes) {
+        final long used = usedBytes.addAndGet(-bytes);
+        if (used < 0) {
+            usedBytes.addAndGet(bytes);
+            throw new IllegalStateException(String.format("Released %d bytes more than acquired", -used));
+        }
+    }
+
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    public long availableBytes() {
+        return Math.max(0, limitBytes - usedBytes.get());
+    }
+
+    public long limitBytes() {
+        return limitBytes;
+    }
+}
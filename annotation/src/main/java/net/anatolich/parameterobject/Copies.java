@@ -0,0 +1,108 @@
+package net.anatolich.parameterobject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copies used by generated code to apply {@link CopyPolicy}. Overloads are resolved by the declared type
+ * of a parameter. All methods return {@code null} for {@code null} values.
+ */
+public final class Copies {
+
+    private Copies() {
+        throw new UnsupportedOperationException("must not be instantiated");
+    }
+
+    public static boolean[] copy(boolean[] value) {
+        return value == null ? null : value.clone();
+    }
+
+    public static byte[] copy(byte[] value) {
+        return value == null ? null : value.clone();
+    }
+
+    public static short[] copy(short[] value) {
+        return value == null ? null : value.clone();
+    }
+
+    public static char[] copy(char[] value) {
+        return value == null ? null : value.clone();
+    }
+
+    public static int[] copy(int[] value) {
+        return value == null ? null : value.clone();
+    }
+
+    public static long[] copy(long[] value) {
+        return value == null ? null : value.clone();
+    }
+
+    public static float[] copy(float[] value) {
+        return value == null ? null : value.clone();
+    }
+
+    public static double[] copy(double[] value) {
+        return value == null ? null : value.clone();
+    }
+
+    /**
+     * Shallow copy of an array of references.
+     */
+    public static <T> T[] copy(T[] value) {
+        return value == null ? null : value.clone();
+    }
+
+    public static <T> List<T> copy(List<T> value) {
+        return value == null ? null : new ArrayList<>(value);
+    }
+
+    public static <T> Set<T> copy(Set<T> value) {
+        return value == null ? null : new LinkedHashSet<>(value);
+    }
+
+    public static <T> Collection<T> copy(Collection<T> value) {
+        return value == null ? null : new ArrayList<>(value);
+    }
+
+    public static <K, V> Map<K, V> copy(Map<K, V> value) {
+        return value == null ? null : new LinkedHashMap<>(value);
+    }
+
+    public static <T> List<T> unmodifiable(List<T> value) {
+        return value == null ? null : Collections.unmodifiableList(value);
+    }
+
+    public static <T> Set<T> unmodifiable(Set<T> value) {
+        return value == null ? null : Collections.unmodifiableSet(value);
+    }
+
+    public static <T> Collection<T> unmodifiable(Collection<T> value) {
+        return value == null ? null : Collections.unmodifiableCollection(value);
+    }
+
+    public static <K, V> Map<K, V> unmodifiable(Map<K, V> value) {
+        return value == null ? null : Collections.unmodifiableMap(value);
+    }
+
+    public static <T> List<T> unmodifiableCopy(List<T> value) {
+        return value == null ? null : Collections.unmodifiableList(new ArrayList<>(value));
+    }
+
+    public static <T> Set<T> unmodifiableCopy(Set<T> value) {
+        return value == null ? null : Collections.unmodifiableSet(new LinkedHashSet<>(value));
+    }
+
+    public static <T> Collection<T> unmodifiableCopy(Collection<T> value) {
+        return value == null ? null : Collections.unmodifiableCollection(new ArrayList<>(value));
+    }
+
+    public static <K, V> Map<K, V> unmodifiableCopy(Map<K, V> value) {
+        return value == null ? null : Collections.unmodifiableMap(new LinkedHashMap<>(value));
+    }
+}
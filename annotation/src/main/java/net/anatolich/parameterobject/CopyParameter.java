@@ -0,0 +1,18 @@
+package net.anatolich.parameterobject;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides {@link ParameterObject#copyPolicy()} for a single parameter.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface CopyParameter {
+
+    CopyPolicy value();
+}
@@ -0,0 +1,31 @@
+package net.anatolich.parameterobject;
+
+/**
+ * How parameter objects protect array and collection parameters from changes made through other references.
+ * Applies to arrays and to parameters declared as {@code List}, {@code Set}, {@code Collection} or {@code Map},
+ * other parameters are always shared.
+ */
+public enum CopyPolicy {
+
+    /**
+     * Values are stored and returned as they are.
+     */
+    SHARE,
+
+    /**
+     * Values are copied when a parameter object is created. Collections are stored as unmodifiable copies
+     * and returned as they are, arrays are returned as they are.
+     */
+    COPY_ON_CONSTRUCT,
+
+    /**
+     * Collections are stored as unmodifiable views: changes made by the caller remain visible, readers cannot
+     * change them. Arrays have no views and are copied on read.
+     */
+    UNMODIFIABLE_VIEW,
+
+    /**
+     * Values are stored as they are and copied every time they are read from a parameter object.
+     */
+    COPY_ON_READ
+}
@@ -0,0 +1,84 @@
+package net.anatolich.parameterobject;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only map over a fixed set of parameter names.
+ * Generated parameter objects extend it to expose their fields as a map without copying them.
+ */
+public abstract class FixedArgumentsMap extends AbstractMap<String, Object> {
+
+    private final String[] names;
+
+    protected FixedArgumentsMap(String[] names) {
+        this.names = names;
+    }
+
+    /**
+     * Position of the parameter with a given name or -1 if there is no such parameter.
+     */
+    protected abstract int indexOf(Object name);
+
+    /**
+     * Value of the parameter at a given position.
+     */
+    protected abstract Object valueAt(int index);
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < names.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry<String, Object> entry = new SimpleImmutableEntry<>(names[index], valueAt(index));
+            index++;
+            return entry;
+        }
+    }
+}
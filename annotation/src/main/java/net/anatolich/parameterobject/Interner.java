@@ -0,0 +1,86 @@
+package net.anatolich.parameterobject;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Deduplicates equal parameter objects. Interned instances are held weakly and disappear once no longer used
+ * elsewhere. Instances are spread over independently locked segments by hash code, so only calls with colliding
+ * segments contend.
+ * <p>
+ * Each segment holds at most its share of the maximum size. When a segment is full new instances are returned
+ * as they are and counted as rejections, instances interned before are kept.
+ *
+ * @param <T> parameter object type with value {@code equals} and {@code hashCode}
+ */
+public final class Interner<T> {
+
+    private static final int SEGMENTS = 16;
+
+    private final WeakHashMap<T, WeakReference<T>>[] segments;
+    private final int maximumSegmentSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private Interner(int maximumSize) {
+        this.segments = new WeakHashMap[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new WeakHashMap<>();
+        }
+        this.maximumSegmentSize = Math.max(1, maximumSize / SEGMENTS);
+    }
+
+    public static <T> Interner<T> create(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive but was " + maximumSize);
+        }
+        return new Interner<>(maximumSize);
+    }
+
+    /**
+     * @return an interned instance equal to the value or the value itself
+     */
+    public T intern(T value) {
+        Objects.requireNonNull(value, "value");
+        final Map<T, WeakReference<T>> segment = segmentFor(value);
+        synchronized (segment) {
+            final WeakReference<T> reference = segment.get(value);
+            final T interned = reference == null ? null : reference.get();
+            if (interned != null) {
+                hits.increment();
+                return interned;
+            }
+            if (segment.size() >= maximumSegmentSize) {
+                rejections.increment();
+                return value;
+            }
+            segment.put(value, new WeakReference<>(value));
+        }
+        misses.increment();
+        return value;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<T, WeakReference<T>> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public InternerStatistics statistics() {
+        return new InternerStatistics(hits.sum(), misses.sum(), rejections.sum(), size());
+    }
+
+    private Map<T, WeakReference<T>> segmentFor(T value) {
+        final int hash = value.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+}
@@ -0,0 +1,61 @@
+package net.anatolich.parameterobject;
+
+/**
+ * Snapshot of {@link Interner} counters.
+ */
+public final class InternerStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long rejections;
+    private final int size;
+
+    InternerStatistics(long hits, long misses, long rejections, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.rejections = rejections;
+        this.size = size;
+    }
+
+    /**
+     * Calls that returned an equal instance interned before.
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Calls that interned the given instance.
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Calls that returned the given instance without interning it because the interner was full.
+     */
+    public long rejections() {
+        return rejections;
+    }
+
+    /**
+     * Number of interned instances that were not garbage collected yet.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Share of calls that returned an interned instance or {@code 1.0} when there were no calls.
+     */
+    public double hitRate() {
+        final long requests = hits + misses + rejections;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("InternerStatistics{hits=%d, misses=%d, rejections=%d, size=%d}",
+            hits, misses, rejections, size);
+    }
+}
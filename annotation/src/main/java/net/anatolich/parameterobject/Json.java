@@ -0,0 +1,331 @@
+package net.anatolich.parameterobject;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * JSON values for generated {@code writeJson(Appendable)} methods.
+ * Overloads are resolved by the static type of a parameter, so generated code formats primitives, strings and arrays
+ * without boxing or runtime type checks. Other values are dispatched on their runtime type.
+ */
+public final class Json {
+
+    public static final String REDACTED = "\"***\"";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private Json() {
+        throw new UnsupportedOperationException("must not be instantiated");
+    }
+
+    public static void writeValue(Appendable out, boolean value) throws IOException {
+        out.append(value ? "true" : "false");
+    }
+
+    public static void writeValue(Appendable out, char value) throws IOException {
+        out.append('"');
+        writeEscaped(out, value);
+        out.append('"');
+    }
+
+    public static void writeValue(Appendable out, int value) throws IOException {
+        writeValue(out, (long) value);
+    }
+
+    public static void writeValue(Appendable out, long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            out.append("-9223372036854775808");
+            return;
+        }
+        if (value < 0) {
+            out.append('-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            out.append((char) ('0' + value / divisor % 10));
+            divisor /= 10;
+        }
+    }
+
+    public static void writeValue(Appendable out, float value) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            out.append("null");
+        } else {
+            out.append(Float.toString(value));
+        }
+    }
+
+    public static void writeValue(Appendable out, double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append("null");
+        } else {
+            out.append(Double.toString(value));
+        }
+    }
+
+    public static void writeValue(Appendable out, CharSequence value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            writeEscaped(out, value.charAt(i));
+        }
+        out.append('"');
+    }
+
+    /**
+     * Character arrays are written as strings.
+     */
+    public static void writeValue(Appendable out, char[] value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (char c : value) {
+            writeEscaped(out, c);
+        }
+        out.append('"');
+    }
+
+    public static void writeValue(Appendable out, boolean[] value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('[');
+        for (int i = 0; i < value.length; i++) {
+            separate(out, i);
+            writeValue(out, value[i]);
+        }
+        out.append(']');
+    }
+
+    public static void writeValue(Appendable out, byte[] value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('[');
+        for (int i = 0; i < value.length; i++) {
+            separate(out, i);
+            writeValue(out, value[i]);
+        }
+        out.append(']');
+    }
+
+    public static void writeValue(Appendable out, short[] value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('[');
+        for (int i = 0; i < value.length; i++) {
+            separate(out, i);
+            writeValue(out, value[i]);
+        }
+        out.append(']');
+    }
+
+    public static void writeValue(Appendable out, int[] value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('[');
+        for (int i = 0; i < value.length; i++) {
+            separate(out, i);
+            writeValue(out, value[i]);
+        }
+        out.append(']');
+    }
+
+    public static void writeValue(Appendable out, long[] value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('[');
+        for (int i = 0; i < value.length; i++) {
+            separate(out, i);
+            writeValue(out, value[i]);
+        }
+        out.append(']');
+    }
+
+    public static void writeValue(Appendable out, float[] value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('[');
+        for (int i = 0; i < value.length; i++) {
+            separate(out, i);
+            writeValue(out, value[i]);
+        }
+        out.append(']');
+    }
+
+    public static void writeValue(Appendable out, double[] value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('[');
+        for (int i = 0; i < value.length; i++) {
+            separate(out, i);
+            writeValue(out, value[i]);
+        }
+        out.append(']');
+    }
+
+    public static void writeValue(Appendable out, Object[] value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('[');
+        for (int i = 0; i < value.length; i++) {
+            separate(out, i);
+            writeValue(out, value[i] == value ? "(this Array)" : value[i]);
+        }
+        out.append(']');
+    }
+
+    /**
+     * Paths are iterables of their own name elements, a single name iterates over itself, so they are written
+     * as strings. A container holding itself is written as {@code "(this Collection)"}.
+     */
+    public static void writeValue(Appendable out, Iterable<?> value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        if (value instanceof Path) {
+            writeValue(out, value.toString());
+            return;
+        }
+        out.append('[');
+        int i = 0;
+        for (Object element : value) {
+            separate(out, i++);
+            writeValue(out, element == value ? "(this Collection)" : element);
+        }
+        out.append(']');
+    }
+
+    public static void writeValue(Appendable out, Map<?, ?> value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('{');
+        int i = 0;
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            separate(out, i++);
+            writeValue(out, String.valueOf(entry.getKey()));
+            out.append(':');
+            writeValue(out, entry.getValue() == value ? "(this Map)" : entry.getValue());
+        }
+        out.append('}');
+    }
+
+    /**
+     * Writes a value of a type unknown at compile time.
+     * Objects without a JSON counterpart are written as their {@code toString()}.
+     */
+    public static void writeValue(Appendable out, Object value) throws IOException {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof CharSequence) {
+            writeValue(out, (CharSequence) value);
+        } else if (value instanceof Boolean) {
+            writeValue(out, ((Boolean) value).booleanValue());
+        } else if (value instanceof Character) {
+            writeValue(out, ((Character) value).charValue());
+        } else if (value instanceof Double) {
+            writeValue(out, ((Double) value).doubleValue());
+        } else if (value instanceof Float) {
+            writeValue(out, ((Float) value).floatValue());
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeValue(out, ((Number) value).longValue());
+        } else if (value instanceof Number) {
+            out.append(value.toString());
+        } else if (value instanceof JsonWritable) {
+            ((JsonWritable) value).writeJson(out);
+        } else if (value instanceof Enum) {
+            writeValue(out, ((Enum<?>) value).name());
+        } else if (value instanceof Iterable) {
+            writeValue(out, (Iterable<?>) value);
+        } else if (value instanceof Map) {
+            writeValue(out, (Map<?, ?>) value);
+        } else if (value instanceof Object[]) {
+            writeValue(out, (Object[]) value);
+        } else if (value.getClass().isArray()) {
+            writePrimitiveArray(out, value);
+        } else {
+            writeValue(out, value.toString());
+        }
+    }
+
+    private static void writePrimitiveArray(Appendable out, Object value) throws IOException {
+        if (value instanceof int[]) {
+            writeValue(out, (int[]) value);
+        } else if (value instanceof long[]) {
+            writeValue(out, (long[]) value);
+        } else if (value instanceof double[]) {
+            writeValue(out, (double[]) value);
+        } else if (value instanceof char[]) {
+            writeValue(out, (char[]) value);
+        } else if (value instanceof byte[]) {
+            writeValue(out, (byte[]) value);
+        } else if (value instanceof boolean[]) {
+            writeValue(out, (boolean[]) value);
+        } else if (value instanceof short[]) {
+            writeValue(out, (short[]) value);
+        } else {
+            writeValue(out, (float[]) value);
+        }
+    }
+
+    private static void separate(Appendable out, int index) throws IOException {
+        if (index > 0) {
+            out.append(',');
+        }
+    }
+
+    private static void writeEscaped(Appendable out, char c) throws IOException {
+        switch (c) {
+            case '"':
+                out.append("\\\"");
+                break;
+            case '\\':
+                out.append("\\\\");
+                break;
+            case '\n':
+                out.append("\\n");
+                break;
+            case '\r':
+                out.append("\\r");
+                break;
+            case '\t':
+                out.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    out.append("\\u00")
+                        .append(HEX_DIGITS[c >> 4])
+                        .append(HEX_DIGITS[c & 0xf]);
+                } else {
+                    out.append(c);
+                }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package net.anatolich.parameterobject;
+
+import java.io.IOException;
+
+/**
+ * Parameter object writing itself as a JSON object with parameter names as keys.
+ */
+public interface JsonWritable {
+
+    void writeJson(Appendable out) throws IOException;
+}
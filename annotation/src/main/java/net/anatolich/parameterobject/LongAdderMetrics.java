@@ -0,0 +1,146 @@
+package net.anatolich.parameterobject;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Default {@link ParameterObjectMetrics} with striped counters. Counters of every class are registered
+ * in the platform MBean server as {@code net.anatolich.parameterobject:type=ParameterObject,name=<class>}.
+ * Recorders are created in static initializers of generated classes, a failed registration is logged
+ * and the counters are kept without JMX.
+ */
+public final class LongAdderMetrics implements ParameterObjectMetrics {
+
+    private static final Logger LOGGER = Logger.getLogger(LongAdderMetrics.class.getName());
+    private static final LongAdderMetrics INSTANCE = new LongAdderMetrics(ManagementFactory::getPlatformMBeanServer);
+
+    private final Supplier<MBeanServer> mbeanServer;
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * @param mbeanServer server to register counters in or {@code null} to keep them without JMX
+     */
+    LongAdderMetrics(Supplier<MBeanServer> mbeanServer) {
+        this.mbeanServer = mbeanServer;
+    }
+
+    public static LongAdderMetrics instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Recorder recorder(String parameterObjectClass, String... sizedParameters) {
+        return statistics.computeIfAbsent(parameterObjectClass, name -> {
+            final Statistics created = new Statistics(sizedParameters);
+            if (mbeanServer != null) {
+                register(name, created);
+            }
+            return created;
+        });
+    }
+
+    /**
+     * Counters of a parameter object class or {@code null} if the class was not initialized yet.
+     */
+    public ParameterObjectStatisticsMXBean statistics(String parameterObjectClass) {
+        return statistics.get(parameterObjectClass);
+    }
+
+    private void register(String parameterObjectClass, Statistics statistics) {
+        try {
+            final MBeanServer server = mbeanServer.get();
+            final ObjectName name = new ObjectName("net.anatolich.parameterobject:type=ParameterObject,name="
+                + ObjectName.quote(parameterObjectClass));
+            if (!server.isRegistered(name)) {
+                server.registerMBean(statistics, name);
+            }
+        } catch (JMException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Cannot register metrics of " + parameterObjectClass);
+        }
+    }
+
+    private static final class Statistics implements Recorder, ParameterObjectStatisticsMXBean {
+
+        private final String[] sizedParameters;
+        private final LongAdder constructed = new LongAdder();
+        private final LongAdder toMapCalls = new LongAdder();
+        private final LongAdder fromMapCalls = new LongAdder();
+        private final LongAdder[] sizeTotals;
+        private final LongAccumulator[] sizeMaximums;
+
+        private Statistics(String[] sizedParameters) {
+            this.sizedParameters = sizedParameters.clone();
+            this.sizeTotals = new LongAdder[sizedParameters.length];
+            this.sizeMaximums = new LongAccumulator[sizedParameters.length];
+            for (int i = 0; i < sizedParameters.length; i++) {
+                sizeTotals[i] = new LongAdder();
+                sizeMaximums[i] = new LongAccumulator(Math::max, 0);
+            }
+        }
+
+        @Override
+        public void constructed() {
+            constructed.increment();
+        }
+
+        @Override
+        public void toMap() {
+            toMapCalls.increment();
+        }
+
+        @Override
+        public void fromMap() {
+            fromMapCalls.increment();
+        }
+
+        @Override
+        public void argumentSize(int sizedParameterIndex, int size) {
+            sizeTotals[sizedParameterIndex].add(size);
+            sizeMaximums[sizedParameterIndex].accumulate(size);
+        }
+
+        @Override
+        public long getConstructed() {
+            return constructed.sum();
+        }
+
+        @Override
+        public long getToMapCalls() {
+            return toMapCalls.sum();
+        }
+
+        @Override
+        public long getFromMapCalls() {
+            return fromMapCalls.sum();
+        }
+
+        @Override
+        public Map<String, Long> getArgumentSizeTotals() {
+            final Map<String, Long> totals = new LinkedHashMap<>();
+            for (int i = 0; i < sizedParameters.length; i++) {
+                totals.put(sizedParameters[i], sizeTotals[i].sum());
+            }
+            return Collections.unmodifiableMap(totals);
+        }
+
+        @Override
+        public Map<String, Long> getArgumentSizeMaximums() {
+            final Map<String, Long> maximums = new LinkedHashMap<>();
+            for (int i = 0; i < sizedParameters.length; i++) {
+                maximums.put(sizedParameters[i], sizeMaximums[i].get());
+            }
+            return Collections.unmodifiableMap(maximums);
+        }
+    }
+}
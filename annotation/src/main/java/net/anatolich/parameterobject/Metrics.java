@@ -0,0 +1,51 @@
+package net.anatolich.parameterobject;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Entry point of instrumented parameter objects. Metrics are disabled with {@code -Dparameterobject.metrics=false};
+ * generated code checks {@link #ENABLED} before every call, so the JIT removes the calls when it is {@code false}.
+ */
+public final class Metrics {
+
+    public static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("parameterobject.metrics"));
+
+    private static final ParameterObjectMetrics.Recorder NO_OP = new NoOpRecorder();
+    private static final ParameterObjectMetrics PROVIDER = ENABLED ? loadProvider() : null;
+
+    private Metrics() {
+        throw new UnsupportedOperationException("must not be instantiated");
+    }
+
+    public static ParameterObjectMetrics.Recorder recorder(String parameterObjectClass, String... sizedParameters) {
+        if (!ENABLED) {
+            return NO_OP;
+        }
+        return PROVIDER.recorder(parameterObjectClass, sizedParameters);
+    }
+
+    private static ParameterObjectMetrics loadProvider() {
+        final Iterator<ParameterObjectMetrics> providers = ServiceLoader.load(ParameterObjectMetrics.class).iterator();
+        return providers.hasNext() ? providers.next() : LongAdderMetrics.instance();
+    }
+
+    private static final class NoOpRecorder implements ParameterObjectMetrics.Recorder {
+
+        @Override
+        public void constructed() {
+        }
+
+        @Override
+        public void toMap() {
+        }
+
+        @Override
+        public void fromMap() {
+        }
+
+        @Override
+        public void argumentSize(int sizedParameterIndex, int size) {
+        }
+    }
+}
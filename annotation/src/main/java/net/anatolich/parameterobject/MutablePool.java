@@ -0,0 +1,57 @@
+package net.anatolich.parameterobject;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Thread-local pool of mutable parameter objects. Every thread keeps up to {@code maximumPerThread} released
+ * instances, so acquiring and releasing on the same thread neither allocates nor synchronizes once warmed up.
+ * Instances released on another thread go to the pool of that thread.
+ *
+ * @param <T> pooled type
+ */
+public final class MutablePool<T> {
+
+    private final Supplier<T> factory;
+    private final int maximumPerThread;
+    private final ThreadLocal<ArrayDeque<T>> free;
+
+    private MutablePool(Supplier<T> factory, int maximumPerThread) {
+        this.factory = Objects.requireNonNull(factory);
+        this.maximumPerThread = maximumPerThread;
+        this.free = ThreadLocal.withInitial(() -> new ArrayDeque<>(maximumPerThread));
+    }
+
+    public static <T> MutablePool<T> create(Supplier<T> factory, int maximumPerThread) {
+        if (maximumPerThread <= 0) {
+            throw new IllegalArgumentException("Maximum per thread must be positive but was " + maximumPerThread);
+        }
+        return new MutablePool<>(factory, maximumPerThread);
+    }
+
+    /**
+     * @return a released instance of the current thread or a new one
+     */
+    public T acquire() {
+        final T instance = free.get().pollLast();
+        return instance == null ? factory.get() : instance;
+    }
+
+    /**
+     * Keeps an instance for reuse by the current thread, instances over the limit are left to the garbage collector.
+     */
+    public void release(T instance) {
+        final ArrayDeque<T> instances = free.get();
+        if (instances.size() < maximumPerThread) {
+            instances.addLast(instance);
+        }
+    }
+
+    /**
+     * Number of released instances kept by the current thread.
+     */
+    public int available() {
+        return free.get().size();
+    }
+}
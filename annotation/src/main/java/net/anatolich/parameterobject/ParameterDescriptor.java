@@ -0,0 +1,55 @@
+package net.anatolich.parameterobject;
+
+import java.util.Objects;
+
+/**
+ * Compile-time description of a single parameter of a generated parameter object.
+ */
+public final class ParameterDescriptor {
+
+    private final int index;
+    private final String name;
+    private final Class<?> type;
+    private final String genericType;
+
+    private ParameterDescriptor(int index, String name, Class<?> type, String genericType) {
+        this.index = index;
+        this.name = Objects.requireNonNull(name);
+        this.type = Objects.requireNonNull(type);
+        this.genericType = Objects.requireNonNull(genericType);
+    }
+
+    public static ParameterDescriptor of(int index, String name, Class<?> type, String genericType) {
+        return new ParameterDescriptor(index, name, type, genericType);
+    }
+
+    /**
+     * Position of the parameter in the method signature, the index accepted by {@code get(int)}.
+     */
+    public int index() {
+        return index;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Erased parameter type, e.g. {@code List.class} for {@code List<String>}.
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Declared parameter type with type arguments, e.g. {@code java.util.List<java.lang.String>}.
+     */
+    public String genericType() {
+        return genericType;
+    }
+
+    @Override
+    public String toString() {
+        return index + ":" + name + ":" + genericType;
+    }
+}
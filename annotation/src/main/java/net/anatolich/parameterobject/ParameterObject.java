@@ -21,4 +21,61 @@ public @interface ParameterObject {
      * Desired class name. If not specified then default class name generation strategy will be applied.
      */
     String className() default "";
+
+    /**
+     * When set {@code toMap()} returns a mutable copy of parameters instead of a read-only view
+     * backed by the parameter object fields.
+     */
+    boolean mutableMap() default false;
+
+    /**
+     * When set {@code fromArgs(Object...)} fails fast if the number of arguments does not match
+     * the number of method parameters.
+     */
+    boolean checkArity() default true;
+
+    /**
+     * Names of parameters written as a placeholder instead of their values by {@code writeJson(Appendable)}.
+     */
+    String[] redacted() default {};
+
+    /**
+     * When set a {@code <ClassName>Batch} class is generated that stores many invocations column by column,
+     * in primitive arrays for primitive parameters.
+     */
+    boolean batch() default false;
+
+    /**
+     * How array and collection parameters are copied. Can be overridden for a parameter with {@link CopyParameter}.
+     */
+    CopyPolicy copyPolicy() default CopyPolicy.SHARE;
+
+    /**
+     * When records are enabled with the {@code parameterobject.records} processor option and the source level
+     * supports them a record is generated instead of a final class. Set to {@code false} to keep a class.
+     */
+    boolean record() default true;
+
+    /**
+     * When set an {@code intern()} method returns a single shared instance of equal parameter objects,
+     * see {@link Interner}.
+     */
+    boolean intern() default false;
+
+    /**
+     * Maximum number of instances interned for the method.
+     */
+    int internMaximumSize() default 10_000;
+
+    /**
+     * When set a mutable {@code <ClassName>.Mutable} flyweight with setters and a thread-local pool is generated
+     * for capturing arguments without allocation. Use after release is detected when assertions are enabled.
+     */
+    boolean mutable() default false;
+
+    /**
+     * When set a nested {@code Builder} is generated together with {@code builder()} and {@code toBuilder()},
+     * the latter seeded with values of an existing parameter object.
+     */
+    boolean builder() default false;
 }
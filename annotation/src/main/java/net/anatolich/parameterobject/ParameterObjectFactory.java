@@ -0,0 +1,83 @@
+package net.anatolich.parameterobject;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Static factories of a generated parameter object. Instances are created by a generated registry
+ * and looked up by the signature of the annotated method.
+ *
+ * @param <T> parameter object type
+ */
+public final class ParameterObjectFactory<T> {
+
+    private final Class<T> type;
+    private final Function<Object[], T> fromArgs;
+    private final Function<Map<String, Object>, T> fromMap;
+
+    private ParameterObjectFactory(Class<T> type, Function<Object[], T> fromArgs,
+        Function<Map<String, Object>, T> fromMap) {
+        this.type = Objects.requireNonNull(type);
+        this.fromArgs = Objects.requireNonNull(fromArgs);
+        this.fromMap = Objects.requireNonNull(fromMap);
+    }
+
+    public static <T> ParameterObjectFactory<T> of(Class<T> type, Function<Object[], T> fromArgs,
+        Function<Map<String, Object>, T> fromMap) {
+        return new ParameterObjectFactory<>(type, fromArgs, fromMap);
+    }
+
+    /**
+     * Factory of the parameter object at the given index of a generated registry. A registry dispatches
+     * all of its parameter objects in one class instead of a pair of method references per parameter object.
+     */
+    public static <T> ParameterObjectFactory<T> of(Class<T> type, int index, IndexedFactories factories) {
+        Objects.requireNonNull(factories);
+        return new ParameterObjectFactory<>(type, args -> type.cast(factories.fromArgs(index, args)),
+            parameters -> type.cast(factories.fromMap(index, parameters)));
+    }
+
+    /**
+     * Registry key of a method: declaring class binary name, method name and erased parameter types,
+     * e.g. {@code com.acme.Users#create(java.lang.String,int[])}.
+     */
+    public static String key(Method method) {
+        final StringBuilder key = new StringBuilder(64)
+            .append(method.getDeclaringClass().getName())
+            .append('#')
+            .append(method.getName())
+            .append('(');
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(parameterTypes[i].getTypeName());
+        }
+        return key.append(')').toString();
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public T fromArgs(Object... args) {
+        return fromArgs.apply(args);
+    }
+
+    public T fromMap(Map<String, Object> parameters) {
+        return fromMap.apply(parameters);
+    }
+
+    /**
+     * Static factories of all parameter objects of a generated registry, selected by index.
+     */
+    public interface IndexedFactories {
+
+        Object fromArgs(int index, Object[] args);
+
+        Object fromMap(int index, Map<String, Object> parameters);
+    }
+}
@@ -0,0 +1,32 @@
+package net.anatolich.parameterobject;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates parameter objects of all {@link ParameterObject} methods of the annotated type as nested static classes
+ * of a single holder class instead of one top-level class per method. The holder declares key constants of its
+ * methods and a registry of their factories.
+ * <p>
+ * Nested classes are named after the method, e.g. {@code createUser} becomes {@code CreateUserParameters}, unless
+ * {@link ParameterObject#className()} is set. {@link ParameterObject#packageName()} is ignored.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ParameterObjectHolder {
+
+    /**
+     * Desired package name of the holder. If not specified the holder will be in the same package
+     * as annotated class.
+     */
+    String packageName() default "";
+
+    /**
+     * Desired holder class name. If not specified the holder is named {@code <ClassName>Parameters}.
+     */
+    String className() default "";
+}
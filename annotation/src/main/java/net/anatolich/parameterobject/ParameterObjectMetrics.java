@@ -0,0 +1,31 @@
+package net.anatolich.parameterobject;
+
+/**
+ * Service provider receiving traffic of parameter objects generated with {@code -Aparameterobject.metrics=true}.
+ * Implementations are found with {@link java.util.ServiceLoader}, {@link LongAdderMetrics} is used when there are none.
+ */
+public interface ParameterObjectMetrics {
+
+    /**
+     * Called once per generated class when it is initialized.
+     *
+     * @param parameterObjectClass fully qualified name of the generated class
+     * @param sizedParameters names of array, collection and map parameters in the order of
+     * {@link Recorder#argumentSize(int, int)} indexes
+     */
+    Recorder recorder(String parameterObjectClass, String... sizedParameters);
+
+    /**
+     * Counters of a single parameter object class. Called on hot paths and must not block.
+     */
+    interface Recorder {
+
+        void constructed();
+
+        void toMap();
+
+        void fromMap();
+
+        void argumentSize(int sizedParameterIndex, int size);
+    }
+}
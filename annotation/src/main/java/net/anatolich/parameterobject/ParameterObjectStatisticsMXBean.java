@@ -0,0 +1,25 @@
+package net.anatolich.parameterobject;
+
+import java.util.Map;
+
+/**
+ * Counters of a parameter object class registered by {@link LongAdderMetrics}.
+ */
+public interface ParameterObjectStatisticsMXBean {
+
+    long getConstructed();
+
+    long getToMapCalls();
+
+    long getFromMapCalls();
+
+    /**
+     * Sum of sizes of array, collection and map arguments by parameter name.
+     */
+    Map<String, Long> getArgumentSizeTotals();
+
+    /**
+     * Largest size of array, collection and map arguments by parameter name.
+     */
+    Map<String, Long> getArgumentSizeMaximums();
+}
@@ -0,0 +1,58 @@
+package net.anatolich.parameterobject;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Names, types and order of the parameters of a generated parameter object. Every generated class declares it
+ * as the {@code SCHEMA} constant, so frameworks can iterate over parameters with {@code get(int)} without
+ * reflection.
+ */
+public final class ParameterSchema {
+
+    private final List<ParameterDescriptor> descriptors;
+
+    private ParameterSchema(ParameterDescriptor[] descriptors) {
+        for (int i = 0; i < descriptors.length; i++) {
+            if (descriptors[i].index() != i) {
+                throw new IllegalArgumentException(String.format("Parameter %s must have index %d but has %d",
+                    descriptors[i].name(), i, descriptors[i].index()));
+            }
+        }
+        this.descriptors = Collections.unmodifiableList(Arrays.asList(descriptors.clone()));
+    }
+
+    public static ParameterSchema of(ParameterDescriptor... descriptors) {
+        return new ParameterSchema(descriptors);
+    }
+
+    public int size() {
+        return descriptors.size();
+    }
+
+    public ParameterDescriptor descriptor(int index) {
+        return descriptors.get(index);
+    }
+
+    /**
+     * Position of the parameter with a given name or -1 if there is no such parameter.
+     */
+    public int indexOf(String name) {
+        for (ParameterDescriptor descriptor : descriptors) {
+            if (descriptor.name().equals(name)) {
+                return descriptor.index();
+            }
+        }
+        return -1;
+    }
+
+    public List<ParameterDescriptor> descriptors() {
+        return descriptors;
+    }
+
+    @Override
+    public String toString() {
+        return descriptors.toString();
+    }
+}
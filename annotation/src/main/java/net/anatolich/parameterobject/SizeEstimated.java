@@ -0,0 +1,12 @@
+package net.anatolich.parameterobject;
+
+/**
+ * Object able to estimate the memory it retains, e.g. to bound buffers by bytes with {@link ByteBudget}.
+ */
+public interface SizeEstimated {
+
+    /**
+     * Approximate number of heap bytes retained by the object including its arguments.
+     */
+    long estimatedSizeBytes();
+}
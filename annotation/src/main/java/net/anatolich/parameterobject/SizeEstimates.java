@@ -0,0 +1,169 @@
+package net.anatolich.parameterobject;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Heap size estimates of argument values used by generated {@code estimatedSizeBytes()} methods.
+ * <p>
+ * Estimates assume a 64-bit JVM with compressed references: 12 byte object headers, 16 byte array headers,
+ * 4 byte references and 8 byte alignment. Strings are counted with two bytes per character. Collections and maps
+ * measure at most {@value #SAMPLE_SIZE} elements and extrapolate to their size, so large arguments are cheap to
+ * estimate. Shared values such as enum constants are not counted.
+ */
+public final class SizeEstimates {
+
+    static final int SAMPLE_SIZE = 16;
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int COLLECTION_OVERHEAD = 48;
+    private static final int COLLECTION_ELEMENT_OVERHEAD = 32;
+    private static final int MAP_ENTRY_OVERHEAD = 40;
+
+    private SizeEstimates() {
+        throw new UnsupportedOperationException("must not be instantiated");
+    }
+
+    public static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    public static long of(CharSequence value) {
+        if (value == null) {
+            return 0;
+        }
+        return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + 2L * value.length());
+    }
+
+    public static long of(boolean[] value) {
+        return value == null ? 0 : align(ARRAY_HEADER + (long) value.length);
+    }
+
+    public static long of(byte[] value) {
+        return value == null ? 0 : align(ARRAY_HEADER + (long) value.length);
+    }
+
+    public static long of(short[] value) {
+        return value == null ? 0 : align(ARRAY_HEADER + 2L * value.length);
+    }
+
+    public static long of(char[] value) {
+        return value == null ? 0 : align(ARRAY_HEADER + 2L * value.length);
+    }
+
+    public static long of(int[] value) {
+        return value == null ? 0 : align(ARRAY_HEADER + 4L * value.length);
+    }
+
+    public static long of(long[] value) {
+        return value == null ? 0 : align(ARRAY_HEADER + 8L * value.length);
+    }
+
+    public static long of(float[] value) {
+        return value == null ? 0 : align(ARRAY_HEADER + 4L * value.length);
+    }
+
+    public static long of(double[] value) {
+        return value == null ? 0 : align(ARRAY_HEADER + 8L * value.length);
+    }
+
+    public static long of(Object[] value) {
+        if (value == null) {
+            return 0;
+        }
+        final long shallow = align(ARRAY_HEADER + (long) REFERENCE * value.length);
+        final int sampled = Math.min(value.length, SAMPLE_SIZE);
+        long sampledElements = 0;
+        for (int i = 0; i < sampled; i++) {
+            sampledElements += of(value[i]);
+        }
+        return shallow + extrapolate(sampledElements, sampled, value.length);
+    }
+
+    public static long of(Collection<?> value) {
+        if (value == null) {
+            return 0;
+        }
+        final int size = value.size();
+        final Iterator<?> elements = value.iterator();
+        int sampled = 0;
+        long sampledElements = 0;
+        while (sampled < SAMPLE_SIZE && elements.hasNext()) {
+            sampledElements += of(elements.next());
+            sampled++;
+        }
+        return COLLECTION_OVERHEAD + (long) COLLECTION_ELEMENT_OVERHEAD * size
+            + extrapolate(sampledElements, sampled, size);
+    }
+
+    public static long of(Map<?, ?> value) {
+        if (value == null) {
+            return 0;
+        }
+        final int size = value.size();
+        final Iterator<? extends Map.Entry<?, ?>> entries = value.entrySet().iterator();
+        int sampled = 0;
+        long sampledEntries = 0;
+        while (sampled < SAMPLE_SIZE && entries.hasNext()) {
+            final Map.Entry<?, ?> entry = entries.next();
+            sampledEntries += of(entry.getKey()) + of(entry.getValue());
+            sampled++;
+        }
+        return COLLECTION_OVERHEAD + (long) MAP_ENTRY_OVERHEAD * size + extrapolate(sampledEntries, sampled, size);
+    }
+
+    /**
+     * Estimates a value of a type unknown at compile time. Objects of other types count as a bare object.
+     */
+    public static long of(Object value) {
+        if (value == null || value instanceof Enum || value instanceof Boolean) {
+            return 0;
+        } else if (value instanceof CharSequence) {
+            return of((CharSequence) value);
+        } else if (value instanceof Long || value instanceof Double) {
+            return align(OBJECT_HEADER + 8);
+        } else if (value instanceof Number || value instanceof Character) {
+            return align(OBJECT_HEADER + 4);
+        } else if (value instanceof SizeEstimated) {
+            return ((SizeEstimated) value).estimatedSizeBytes();
+        } else if (value instanceof Collection) {
+            return of((Collection<?>) value);
+        } else if (value instanceof Map) {
+            return of((Map<?, ?>) value);
+        } else if (value instanceof Object[]) {
+            return of((Object[]) value);
+        } else if (value.getClass().isArray()) {
+            return ofPrimitiveArray(value);
+        }
+        return align(OBJECT_HEADER + REFERENCE);
+    }
+
+    private static long ofPrimitiveArray(Object value) {
+        if (value instanceof int[]) {
+            return of((int[]) value);
+        } else if (value instanceof long[]) {
+            return of((long[]) value);
+        } else if (value instanceof double[]) {
+            return of((double[]) value);
+        } else if (value instanceof char[]) {
+            return of((char[]) value);
+        } else if (value instanceof byte[]) {
+            return of((byte[]) value);
+        } else if (value instanceof boolean[]) {
+            return of((boolean[]) value);
+        } else if (value instanceof short[]) {
+            return of((short[]) value);
+        }
+        return of((float[]) value);
+    }
+
+    private static long extrapolate(long sampledSize, int sampled, int size) {
+        if (sampled == 0) {
+            return 0;
+        }
+        return sampled == size ? sampledSize : sampledSize * size / sampled;
+    }
+}
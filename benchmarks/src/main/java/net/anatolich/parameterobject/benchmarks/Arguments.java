@@ -0,0 +1,80 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Sample arguments shared by all benchmarks. Signatures of {@link Signatures} repeat the same ten parameter
+ * types, so arguments of any length cycle through the same samples.
+ */
+final class Arguments {
+
+    static final int COUNT = 42;
+    static final long TIMESTAMP = 1_571_234_567_890L;
+    static final String NAME = "alice";
+
+    private static final int SAMPLES = 10;
+
+    private Arguments() {
+        throw new UnsupportedOperationException("must not be instantiated");
+    }
+
+    static Set<String> roles() {
+        return new HashSet<>(Arrays.asList("admin", "user"));
+    }
+
+    static char[] secret() {
+        return "s3cr3t".toCharArray();
+    }
+
+    static Object[] one() {
+        return arguments(1);
+    }
+
+    static Object[] five() {
+        return arguments(5);
+    }
+
+    static Object[] twenty() {
+        return arguments(20);
+    }
+
+    static Object[] sixty() {
+        return arguments(60);
+    }
+
+    private static Object[] arguments(int count) {
+        final Object[] arguments = new Object[count];
+        for (int i = 0; i < count; i++) {
+            arguments[i] = sample(i % SAMPLES);
+        }
+        return arguments;
+    }
+
+    private static Object sample(int index) {
+        switch (index) {
+            case 0:
+                return COUNT;
+            case 1:
+                return TIMESTAMP;
+            case 2:
+                return NAME;
+            case 3:
+                return roles();
+            case 4:
+                return secret();
+            case 5:
+                return 0.75;
+            case 6:
+                return Arrays.asList(1, 2, 3);
+            case 7:
+                return true;
+            case 8:
+                return new byte[] {1, 2, 3, 4};
+            default:
+                return Collections.singletonMap("requests", 10L);
+        }
+    }
+}
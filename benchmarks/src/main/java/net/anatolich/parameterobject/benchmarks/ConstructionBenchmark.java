@@ -0,0 +1,66 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of capturing arguments of an intercepted call into a parameter object.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstructionBenchmark {
+
+    private final Object[] oneArgs = Arguments.one();
+    private final Object[] fiveArgs = Arguments.five();
+    private final Object[] twentyArgs = Arguments.twenty();
+    private final Object[] sixtyArgs = Arguments.sixty();
+
+    private int count = Arguments.COUNT;
+    private long timestamp = Arguments.TIMESTAMP;
+    private String name = Arguments.NAME;
+    private Set<String> roles = Arguments.roles();
+    private char[] secret = Arguments.secret();
+
+    @Benchmark
+    public SignaturesOneParameters fromArgsOne() {
+        return SignaturesOneParameters.fromArgs(oneArgs);
+    }
+
+    @Benchmark
+    public SignaturesFiveParameters fromArgsFive() {
+        return SignaturesFiveParameters.fromArgs(fiveArgs);
+    }
+
+    @Benchmark
+    public SignaturesTwentyParameters fromArgsTwenty() {
+        return SignaturesTwentyParameters.fromArgs(twentyArgs);
+    }
+
+    @Benchmark
+    public SignaturesSixtyParameters fromArgsSixty() {
+        return SignaturesSixtyParameters.fromArgs(sixtyArgs);
+    }
+
+    @Benchmark
+    public SignaturesFiveParameters generatedFive() {
+        return new SignaturesFiveParameters(count, timestamp, name, roles, secret);
+    }
+
+    @Benchmark
+    public HandWrittenFiveParameters handWrittenFive() {
+        return new HandWrittenFiveParameters(count, timestamp, name, roles, secret);
+    }
+}
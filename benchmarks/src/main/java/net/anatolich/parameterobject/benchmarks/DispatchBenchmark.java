@@ -0,0 +1,146 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import net.anatolich.parameterobject.dispatch.Dispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Publishing throughput of the lock-free dispatcher compared with a lock based blocking queue
+ * drained by a single consumer, for 1 to 64 producer threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchBenchmark {
+
+    private static final int CAPACITY = 64 * 1024;
+    private static final int BATCH_SIZE = 256;
+
+    private static final SignaturesFiveParameters PARAMETERS = SignaturesFiveParameters.fromArgs(Arguments.five());
+
+    @State(Scope.Benchmark)
+    public static class RingBufferDispatch {
+
+        private Dispatcher<SignaturesFiveParameters> dispatcher;
+
+        @Setup
+        public void start() {
+            dispatcher = Dispatcher.<SignaturesFiveParameters>builder()
+                .capacity(CAPACITY)
+                .maxBatchSize(BATCH_SIZE)
+                .sink(batch -> {
+                })
+                .build();
+        }
+
+        @TearDown
+        public void stop() throws InterruptedException {
+            dispatcher.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BlockingQueueDispatch {
+
+        private final BlockingQueue<SignaturesFiveParameters> queue = new ArrayBlockingQueue<>(CAPACITY);
+        private volatile boolean running;
+        private Thread consumer;
+
+        @Setup
+        public void start() {
+            running = true;
+            consumer = new Thread(() -> {
+                final List<SignaturesFiveParameters> batch = new ArrayList<>(BATCH_SIZE);
+                while (running || !queue.isEmpty()) {
+                    try {
+                        final SignaturesFiveParameters first = queue.poll(10, TimeUnit.MILLISECONDS);
+                        if (first != null) {
+                            batch.add(first);
+                            queue.drainTo(batch, BATCH_SIZE - 1);
+                            batch.clear();
+                        }
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+            consumer.setDaemon(true);
+            consumer.start();
+        }
+
+        @TearDown
+        public void stop() throws InterruptedException {
+            running = false;
+            consumer.join();
+        }
+
+        void publish(SignaturesFiveParameters parameters) throws InterruptedException {
+            queue.put(parameters);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean ringBuffer01(RingBufferDispatch state) {
+        return state.dispatcher.publish(PARAMETERS);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean ringBuffer04(RingBufferDispatch state) {
+        return state.dispatcher.publish(PARAMETERS);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean ringBuffer16(RingBufferDispatch state) {
+        return state.dispatcher.publish(PARAMETERS);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean ringBuffer64(RingBufferDispatch state) {
+        return state.dispatcher.publish(PARAMETERS);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void blockingQueue01(BlockingQueueDispatch state) throws InterruptedException {
+        state.publish(PARAMETERS);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void blockingQueue04(BlockingQueueDispatch state) throws InterruptedException {
+        state.publish(PARAMETERS);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void blockingQueue16(BlockingQueueDispatch state) throws InterruptedException {
+        state.publish(PARAMETERS);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void blockingQueue64(BlockingQueueDispatch state) throws InterruptedException {
+        state.publish(PARAMETERS);
+    }
+}
@@ -0,0 +1,58 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of reading a parameter object from a map of named arguments as interceptors receive it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FromMapBenchmark {
+
+    private final Map<String, Object> one = new HashMap<>(SignaturesOneParameters.fromArgs(Arguments.one()).toMap());
+    private final Map<String, Object> five = new HashMap<>(SignaturesFiveParameters.fromArgs(Arguments.five()).toMap());
+    private final Map<String, Object> twenty = new HashMap<>(
+        SignaturesTwentyParameters.fromArgs(Arguments.twenty()).toMap());
+    private final Map<String, Object> sixty = new HashMap<>(
+        SignaturesSixtyParameters.fromArgs(Arguments.sixty()).toMap());
+
+    @Benchmark
+    public SignaturesOneParameters generatedOne() {
+        return SignaturesOneParameters.fromMap(one);
+    }
+
+    @Benchmark
+    public SignaturesFiveParameters generatedFive() {
+        return SignaturesFiveParameters.fromMap(five);
+    }
+
+    @Benchmark
+    public SignaturesTwentyParameters generatedTwenty() {
+        return SignaturesTwentyParameters.fromMap(twenty);
+    }
+
+    @Benchmark
+    public SignaturesSixtyParameters generatedSixty() {
+        return SignaturesSixtyParameters.fromMap(sixty);
+    }
+
+    @Benchmark
+    public HandWrittenFiveParameters handWrittenFive() {
+        return HandWrittenFiveParameters.fromMap(five);
+    }
+}
@@ -0,0 +1,45 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hand-written parameter object for {@link Signatures#five}, used as a baseline for the generated one.
+ */
+final class HandWrittenFiveParameters {
+
+    private final int count;
+    private final long timestamp;
+    private final String name;
+    private final Set<String> roles;
+    private final char[] secret;
+
+    HandWrittenFiveParameters(int count, long timestamp, String name, Set<String> roles, char[] secret) {
+        this.count = count;
+        this.timestamp = timestamp;
+        this.name = name;
+        this.roles = roles;
+        this.secret = secret;
+    }
+
+    @SuppressWarnings("unchecked")
+    static HandWrittenFiveParameters fromMap(Map<String, Object> parameters) {
+        return new HandWrittenFiveParameters(
+            (int) parameters.get("count"),
+            (long) parameters.get("timestamp"),
+            (String) parameters.get("name"),
+            (Set<String>) parameters.get("roles"),
+            (char[]) parameters.get("secret"));
+    }
+
+    Map<String, Object> toMap() {
+        final Map<String, Object> result = new HashMap<>();
+        result.put("count", count);
+        result.put("timestamp", timestamp);
+        result.put("name", name);
+        result.put("roles", roles);
+        result.put("secret", secret);
+        return result;
+    }
+}
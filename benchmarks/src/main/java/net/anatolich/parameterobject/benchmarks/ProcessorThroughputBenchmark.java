@@ -0,0 +1,104 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import net.anatolich.parameterobject.ParameterObjectAnnotationProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Annotation processing time of a module with many annotated methods, with and without parallel class building.
+ * The compiler keeps trees of all sources and generated classes, a small default heap makes the run GC bound.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ProcessorThroughputBenchmark {
+
+    private static final int METHODS_PER_CLASS = 50;
+
+    @Param("10000")
+    private int methods;
+
+    @Param({"true", "false"})
+    private boolean parallel;
+
+    private List<JavaFileObject> sources;
+    private Path output;
+
+    @Setup(Level.Trial)
+    public void createSources() {
+        sources = new ArrayList<>();
+        for (int c = 0; c < methods / METHODS_PER_CLASS; c++) {
+            final StringBuilder source = new StringBuilder()
+                .append("package app;\n")
+                .append("import java.util.List;\n")
+                .append("import net.anatolich.parameterobject.ParameterObject;\n")
+                .append("public class Service").append(c).append(" {\n");
+            for (int m = 0; m < METHODS_PER_CLASS; m++) {
+                source.append("    @ParameterObject public void method").append(m)
+                    .append("(String name, int count, long[] values, List<String> tags) {}\n");
+            }
+            sources.add(source("app.Service" + c, source.append("}\n").toString()));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createOutputDirectory() throws IOException {
+        output = Files.createTempDirectory("parameter-object-benchmark");
+    }
+
+    @Benchmark
+    public boolean process() {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, Locale.ROOT, null)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, Arrays.asList(
+                "-proc:only",
+                "-classpath", System.getProperty("java.class.path"),
+                "-s", output.toString(),
+                "-Aparameterobject.parallel=" + parallel),
+                null, sources);
+            task.setProcessors(Arrays.asList(new ParameterObjectAnnotationProcessor()));
+            return task.call();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JavaFileObject source(String className, String content) {
+        return new SimpleJavaFileObject(
+            URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+            JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Records generated for source level 16 and later compared with the final classes generated for Java 8.
+ * Run on JDK 17 or later, otherwise both forms are classes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordBenchmark {
+
+    private int count = Arguments.COUNT;
+    private long timestamp = Arguments.TIMESTAMP;
+    private String name = Arguments.NAME;
+    private Set<String> roles = Arguments.roles();
+    private char[] secret = Arguments.secret();
+
+    private final RecordSignaturesAsRecordParameters record = new RecordSignaturesAsRecordParameters(count,
+        timestamp, name, roles, secret);
+    private final RecordSignaturesAsRecordParameters otherRecord = new RecordSignaturesAsRecordParameters(count,
+        timestamp, name, roles, secret);
+    private final RecordSignaturesAsClassParameters object = new RecordSignaturesAsClassParameters(count,
+        timestamp, name, roles, secret);
+    private final RecordSignaturesAsClassParameters otherObject = new RecordSignaturesAsClassParameters(count,
+        timestamp, name, roles, secret);
+    private final Map<String, Object> map = object.toMap();
+
+    @Benchmark
+    public RecordSignaturesAsRecordParameters constructRecord() {
+        return new RecordSignaturesAsRecordParameters(count, timestamp, name, roles, secret);
+    }
+
+    @Benchmark
+    public RecordSignaturesAsClassParameters constructClass() {
+        return new RecordSignaturesAsClassParameters(count, timestamp, name, roles, secret);
+    }
+
+    @Benchmark
+    public RecordSignaturesAsRecordParameters fromMapRecord() {
+        return RecordSignaturesAsRecordParameters.fromMap(map);
+    }
+
+    @Benchmark
+    public RecordSignaturesAsClassParameters fromMapClass() {
+        return RecordSignaturesAsClassParameters.fromMap(map);
+    }
+
+    @Benchmark
+    public boolean equalsRecord() {
+        return record.equals(otherRecord);
+    }
+
+    @Benchmark
+    public boolean equalsClass() {
+        return object.equals(otherObject);
+    }
+
+    @Benchmark
+    public int hashCodeRecord() {
+        return record.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeClass() {
+        return object.hashCode();
+    }
+
+    @Benchmark
+    public long readRecord() {
+        return record.getTimestamp() + record.getCount();
+    }
+
+    @Benchmark
+    public long readClass() {
+        return object.getTimestamp() + object.getCount();
+    }
+}
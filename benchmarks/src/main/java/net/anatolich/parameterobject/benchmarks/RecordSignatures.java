@@ -0,0 +1,18 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.util.Set;
+import net.anatolich.parameterobject.ParameterObject;
+
+/**
+ * The same signature generated as a record and as a final class. Both are classes below source level 16.
+ */
+public class RecordSignatures {
+
+    @ParameterObject
+    public void asRecord(int count, long timestamp, String name, Set<String> roles, char[] secret) {
+    }
+
+    @ParameterObject(record = false)
+    public void asClass(int count, long timestamp, String name, Set<String> roles, char[] secret) {
+    }
+}
@@ -0,0 +1,35 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds a map of arguments from method parameter names discovered by reflection.
+ * This is what interceptors do without generated parameter objects.
+ */
+final class ReflectiveArgumentsMap {
+
+    private ReflectiveArgumentsMap() {
+        throw new UnsupportedOperationException("must not be instantiated");
+    }
+
+    static Map<String, Object> toMap(Method method, Object[] args) {
+        final Parameter[] parameters = method.getParameters();
+        final Map<String, Object> result = new HashMap<>();
+        for (int i = 0; i < parameters.length; i++) {
+            result.put(parameters[i].getName(), args[i]);
+        }
+        return result;
+    }
+
+    static Method method(String name) {
+        for (Method method : Signatures.class.getMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException("No signature named " + name);
+    }
+}
@@ -0,0 +1,45 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.anatolich.parameterobject.ParameterObject;
+
+/**
+ * Representative signatures of growing width. Parameter types cycle through primitives, strings,
+ * arrays and generic collections.
+ */
+public class Signatures {
+
+    @ParameterObject
+    public void one(int count) {
+    }
+
+    @ParameterObject
+    public void five(int count, long timestamp, String name, Set<String> roles, char[] secret) {
+    }
+
+    @ParameterObject
+    public void twenty(int count0, long timestamp0, String name0, Set<String> roles0, char[] secret0,
+        double ratio0, List<Integer> scores0, boolean active0, byte[] payload0,
+        Map<String, Long> counters0, int count1, long timestamp1, String name1, Set<String> roles1,
+        char[] secret1, double ratio1, List<Integer> scores1, boolean active1, byte[] payload1,
+        Map<String, Long> counters1) {
+    }
+
+    @ParameterObject
+    public void sixty(int count0, long timestamp0, String name0, Set<String> roles0, char[] secret0,
+        double ratio0, List<Integer> scores0, boolean active0, byte[] payload0,
+        Map<String, Long> counters0, int count1, long timestamp1, String name1, Set<String> roles1,
+        char[] secret1, double ratio1, List<Integer> scores1, boolean active1, byte[] payload1,
+        Map<String, Long> counters1, int count2, long timestamp2, String name2, Set<String> roles2,
+        char[] secret2, double ratio2, List<Integer> scores2, boolean active2, byte[] payload2,
+        Map<String, Long> counters2, int count3, long timestamp3, String name3, Set<String> roles3,
+        char[] secret3, double ratio3, List<Integer> scores3, boolean active3, byte[] payload3,
+        Map<String, Long> counters3, int count4, long timestamp4, String name4, Set<String> roles4,
+        char[] secret4, double ratio4, List<Integer> scores4, boolean active4, byte[] payload4,
+        Map<String, Long> counters4, int count5, long timestamp5, String name5, Set<String> roles5,
+        char[] secret5, double ratio5, List<Integer> scores5, boolean active5, byte[] payload5,
+        Map<String, Long> counters5) {
+    }
+}
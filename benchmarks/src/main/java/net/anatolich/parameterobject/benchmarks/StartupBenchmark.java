@@ -0,0 +1,88 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Time to first call of 16 parameter objects in a fresh JVM with one top-level class per method and with
+ * nested classes of a single holder. Every fork prints the number of classes the call loaded.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private static final ClassLoadingMXBean CLASS_LOADING = ManagementFactory.getClassLoadingMXBean();
+
+    private final Object[] args = {Arguments.COUNT, Arguments.NAME, Arrays.asList("admin", "user")};
+    private long loadedBefore;
+
+    @Setup(Level.Trial)
+    public void countLoadedClasses() {
+        loadedBefore = CLASS_LOADING.getTotalLoadedClassCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void reportLoadedClasses() {
+        System.out.printf("classes loaded by first call: %d%n",
+            CLASS_LOADING.getTotalLoadedClassCount() - loadedBefore);
+    }
+
+    @Benchmark
+    public void flat(Blackhole sink) {
+        sink.consume(StartupFlatCall00Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall01Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall02Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall03Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall04Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall05Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall06Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall07Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall08Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall09Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall10Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall11Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall12Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall13Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall14Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupFlatCall15Parameters.fromArgs(args).toMap().get("name"));
+    }
+
+    @Benchmark
+    public void holder(Blackhole sink) {
+        sink.consume(StartupHolderParameters.Call00Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call01Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call02Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call03Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call04Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call05Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call06Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call07Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call08Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call09Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call10Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call11Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call12Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call13Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call14Parameters.fromArgs(args).toMap().get("name"));
+        sink.consume(StartupHolderParameters.Call15Parameters.fromArgs(args).toMap().get("name"));
+    }
+}
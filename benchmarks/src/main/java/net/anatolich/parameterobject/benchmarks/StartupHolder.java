@@ -0,0 +1,76 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.util.List;
+import net.anatolich.parameterobject.ParameterObject;
+import net.anatolich.parameterobject.ParameterObjectHolder;
+
+/**
+ * Service with many annotated methods generating nested classes of a single holder.
+ */
+@ParameterObjectHolder
+public class StartupHolder {
+
+    @ParameterObject
+    public void call00(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call01(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call02(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call03(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call04(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call05(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call06(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call07(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call08(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call09(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call10(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call11(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call12(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call13(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call14(int count, String name, List<String> tags) {
+    }
+
+    @ParameterObject
+    public void call15(int count, String name, List<String> tags) {
+    }
+}
@@ -0,0 +1,86 @@
+package net.anatolich.parameterobject.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of turning captured arguments into a map of named values.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToMapBenchmark {
+
+    private final SignaturesOneParameters one = SignaturesOneParameters.fromArgs(Arguments.one());
+    private final SignaturesFiveParameters five = SignaturesFiveParameters.fromArgs(Arguments.five());
+    private final SignaturesTwentyParameters twenty = SignaturesTwentyParameters.fromArgs(Arguments.twenty());
+    private final SignaturesSixtyParameters sixty = SignaturesSixtyParameters.fromArgs(Arguments.sixty());
+    private final HandWrittenFiveParameters handWrittenFive = HandWrittenFiveParameters.fromMap(five.toMap());
+
+    private final Method oneMethod = ReflectiveArgumentsMap.method("one");
+    private final Method fiveMethod = ReflectiveArgumentsMap.method("five");
+    private final Method twentyMethod = ReflectiveArgumentsMap.method("twenty");
+    private final Method sixtyMethod = ReflectiveArgumentsMap.method("sixty");
+    private final Object[] oneArgs = Arguments.one();
+    private final Object[] fiveArgs = Arguments.five();
+    private final Object[] twentyArgs = Arguments.twenty();
+    private final Object[] sixtyArgs = Arguments.sixty();
+
+    @Benchmark
+    public Map<String, Object> generatedOne() {
+        return one.toMap();
+    }
+
+    @Benchmark
+    public Map<String, Object> generatedFive() {
+        return five.toMap();
+    }
+
+    @Benchmark
+    public Map<String, Object> generatedTwenty() {
+        return twenty.toMap();
+    }
+
+    @Benchmark
+    public Map<String, Object> generatedSixty() {
+        return sixty.toMap();
+    }
+
+    @Benchmark
+    public Map<String, Object> handWrittenFive() {
+        return handWrittenFive.toMap();
+    }
+
+    @Benchmark
+    public Map<String, Object> reflectiveOne() {
+        return ReflectiveArgumentsMap.toMap(oneMethod, oneArgs);
+    }
+
+    @Benchmark
+    public Map<String, Object> reflectiveFive() {
+        return ReflectiveArgumentsMap.toMap(fiveMethod, fiveArgs);
+    }
+
+    @Benchmark
+    public Map<String, Object> reflectiveTwenty() {
+        return ReflectiveArgumentsMap.toMap(twentyMethod, twentyArgs);
+    }
+
+    @Benchmark
+    public Map<String, Object> reflectiveSixty() {
+        return ReflectiveArgumentsMap.toMap(sixtyMethod, sixtyArgs);
+    }
+}
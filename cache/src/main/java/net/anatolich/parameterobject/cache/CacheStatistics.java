@@ -0,0 +1,49 @@
+package net.anatolich.parameterobject.cache;
+
+/**
+ * Snapshot of {@link MemoizingCache} counters.
+ */
+public final class CacheStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+
+    CacheStatistics(long hits, long misses, long evictions, long expirations) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    public long expirations() {
+        return expirations;
+    }
+
+    /**
+     * Share of requests served from the cache or {@code 1.0} when there were no requests.
+     */
+    public double hitRate() {
+        final long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStatistics{hits=%d, misses=%d, evictions=%d, expirations=%d}",
+            hits, misses, evictions, expirations);
+    }
+}
@@ -0,0 +1,200 @@
+package net.anatolich.parameterobject.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Memoizes results of a method keyed by its parameter objects.
+ * <p>
+ * Entries are spread over segments by key hash. Each segment keeps its entries in access order and evicts
+ * the least recently used entry once it holds more than its share of the maximum size, so the bound is
+ * approximate. Entries expire a fixed time after they were loaded. Values are loaded outside of segment locks:
+ * concurrent misses of the same key may load it more than once, the last loaded value is kept.
+ * {@code null} values are returned but not cached.
+ */
+public class MemoizingCache<K, V> {
+
+    private final Function<? super K, ? extends V> loader;
+    private final Segment<K, V>[] segments;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private MemoizingCache(Builder builder, Function<? super K, ? extends V> loader) {
+        this.loader = Objects.requireNonNull(loader);
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.ticker = builder.ticker;
+        int segmentCount = 1;
+        while (segmentCount < builder.concurrencyLevel && segmentCount < builder.maximumSize) {
+            segmentCount <<= 1;
+        }
+        final int segmentSize = (builder.maximumSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentSize, evictions);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the cached value or loads, caches and returns it.
+     */
+    public V get(K key) {
+        final Segment<K, V> segment = segmentFor(key);
+        final long now = ticker.getAsLong();
+        synchronized (segment) {
+            final Entry<V> entry = segment.get(key);
+            if (entry != null) {
+                if (now - entry.loadedAt < expireAfterWriteNanos) {
+                    hits.increment();
+                    return entry.value;
+                }
+                segment.remove(key);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        final V value = loader.apply(key);
+        if (value != null) {
+            final Entry<V> entry = new Entry<>(value, ticker.getAsLong());
+            synchronized (segment) {
+                segment.put(key, entry);
+            }
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        final Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Number of cached entries including the expired ones not yet removed.
+     */
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public CacheStatistics statistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+        private final int maximumSize;
+        private final LongAdder evictions;
+
+        private Segment(int maximumSize, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if (size() > maximumSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public static final class Builder {
+
+        private int maximumSize = 10_000;
+        private int concurrencyLevel = 16;
+        private long expireAfterWriteNanos = Long.MAX_VALUE;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Approximate maximum number of entries.
+         */
+        public Builder maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("Maximum size must be positive but was " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Number of independently locked segments, rounded up to a power of two.
+         */
+        public Builder concurrencyLevel(int concurrencyLevel) {
+            if (concurrencyLevel <= 0) {
+                throw new IllegalArgumentException("Concurrency level must be positive but was " + concurrencyLevel);
+            }
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * Time after loading when an entry is no longer returned.
+         */
+        public Builder expireAfterWrite(long duration, TimeUnit unit) {
+            if (duration <= 0) {
+                throw new IllegalArgumentException("Expiration must be positive but was " + duration);
+            }
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public <K, V> MemoizingCache<K, V> build(Function<? super K, ? extends V> loader) {
+            return new MemoizingCache<>(this, loader);
+        }
+    }
+}
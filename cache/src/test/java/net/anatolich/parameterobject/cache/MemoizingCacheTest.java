@@ -0,0 +1,90 @@
+package net.anatolich.parameterobject.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MemoizingCacheTest {
+
+    private final PricingService service = new PricingService();
+
+    @Test
+    void equalParameterObjectsHitCachedResult() {
+        final MemoizingCache<PricingServicePriceParameters, Long> cache = MemoizingCache.builder()
+            .build(parameters -> parameters.invoke(service));
+
+        final long first = cache.get(new PricingServicePriceParameters("apple", 3, new String[] {"bulk"}));
+        final long second = cache.get(new PricingServicePriceParameters("apple", 3, new String[] {"bulk"}));
+
+        Assertions.assertThat(first).isEqualTo(second).isEqualTo(14L);
+        Assertions.assertThat(service.calls()).isEqualTo(1);
+        Assertions.assertThat(cache.statistics().hits()).isEqualTo(1);
+        Assertions.assertThat(cache.statistics().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntries() {
+        final MemoizingCache<PricingServicePriceParameters, Long> cache = MemoizingCache.builder()
+            .maximumSize(2)
+            .concurrencyLevel(1)
+            .build(parameters -> parameters.invoke(service));
+        final PricingServicePriceParameters apple = price("apple");
+        final PricingServicePriceParameters pear = price("pear");
+
+        cache.get(apple);
+        cache.get(pear);
+        cache.get(apple);
+        cache.get(price("plum"));
+        cache.get(apple);
+        cache.get(pear);
+
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+        Assertions.assertThat(cache.statistics().evictions()).isEqualTo(2);
+        Assertions.assertThat(service.calls()).isEqualTo(4);
+    }
+
+    @Test
+    void expiresEntriesAfterWrite() {
+        final AtomicLong time = new AtomicLong();
+        final MemoizingCache<PricingServicePriceParameters, Long> cache = MemoizingCache.builder()
+            .expireAfterWrite(1, TimeUnit.SECONDS)
+            .ticker(time::get)
+            .build(parameters -> parameters.invoke(service));
+
+        cache.get(price("apple"));
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        cache.get(price("apple"));
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        cache.get(price("apple"));
+
+        Assertions.assertThat(service.calls()).isEqualTo(2);
+        Assertions.assertThat(cache.statistics().expirations()).isEqualTo(1);
+        Assertions.assertThat(cache.statistics().hitRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void invalidatedEntriesAreLoadedAgain() {
+        final MemoizingCache<PricingServicePriceParameters, Long> cache = MemoizingCache.builder()
+            .build(parameters -> parameters.invoke(service));
+
+        cache.get(price("apple"));
+        cache.invalidate(price("apple"));
+        cache.get(price("apple"));
+        cache.invalidateAll();
+        cache.get(price("apple"));
+
+        Assertions.assertThat(service.calls()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsNonPositiveMaximumSize() {
+        Assertions.assertThatThrownBy(() -> MemoizingCache.builder().maximumSize(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Maximum size must be positive but was 0");
+    }
+
+    private static PricingServicePriceParameters price(String sku) {
+        return new PricingServicePriceParameters(sku, 1, new String[0]);
+    }
+}
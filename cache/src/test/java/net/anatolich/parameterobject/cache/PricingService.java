@@ -0,0 +1,19 @@
+package net.anatolich.parameterobject.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import net.anatolich.parameterobject.ParameterObject;
+
+class PricingService {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @ParameterObject
+    long price(String sku, int quantity, String[] discounts) {
+        calls.incrementAndGet();
+        return (long) sku.length() * quantity - discounts.length;
+    }
+
+    int calls() {
+        return calls.get();
+    }
+}
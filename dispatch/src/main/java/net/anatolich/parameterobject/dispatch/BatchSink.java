@@ -0,0 +1,15 @@
+package net.anatolich.parameterobject.dispatch;
+
+import java.util.List;
+
+/**
+ * Receives parameter objects drained by a {@link Dispatcher} consumer thread.
+ */
+@FunctionalInterface
+public interface BatchSink<T> {
+
+    /**
+     * @param batch objects in publishing order of each producer; the list is only valid during the call
+     */
+    void accept(List<T> batch);
+}
@@ -0,0 +1,262 @@
+package net.anatolich.parameterobject.dispatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous fan-out of parameter objects to batch sinks.
+ * <p>
+ * Producers publish into a lock-free ring buffer. Consumer threads drain it in batches and pass every batch
+ * to all sinks in registration order. With more than one consumer sinks are called concurrently and must be
+ * thread-safe. Consumer threads come from a {@link ThreadFactory}, so virtual threads can be used where available.
+ */
+public class Dispatcher<T> implements AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final int SPINS_BEFORE_PARK = 100;
+
+    private final RingBuffer<T> buffer;
+    private final List<BatchSink<? super T>> sinks;
+    private final int maxBatchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int sampleThreshold;
+    private final Consumer<? super Throwable> errorHandler;
+    private final List<Thread> consumers = new ArrayList<>();
+    private final AtomicInteger sampleCounter = new AtomicInteger();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+
+    private volatile boolean running = true;
+
+    private Dispatcher(Builder<T> builder) {
+        if (builder.sinks.isEmpty()) {
+            throw new IllegalStateException("At least one sink is required");
+        }
+        this.buffer = new RingBuffer<>(builder.capacity);
+        this.sinks = new ArrayList<>(builder.sinks);
+        this.maxBatchSize = builder.maxBatchSize;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.sampleRate = builder.sampleRate;
+        this.sampleThreshold = builder.capacity / 2;
+        this.errorHandler = builder.errorHandler;
+        for (int i = 0; i < builder.consumers; i++) {
+            final Thread consumer = builder.threadFactory.newThread(this::consumeLoop);
+            consumers.add(consumer);
+            consumer.start();
+        }
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Hands an object over to consumers according to the overflow policy.
+     *
+     * @return {@code false} if the object was discarded
+     */
+    public boolean publish(T object) {
+        Objects.requireNonNull(object);
+        if (!running) {
+            throw new IllegalStateException("Dispatcher is closed");
+        }
+        if (overflowPolicy == OverflowPolicy.SAMPLE && buffer.size() > sampleThreshold
+            && sampleCounter.getAndIncrement() % sampleRate != 0) {
+            dropped.increment();
+            return false;
+        }
+        if (buffer.offer(object)) {
+            published.increment();
+            return true;
+        }
+        if (overflowPolicy != OverflowPolicy.BLOCK) {
+            dropped.increment();
+            return false;
+        }
+        int spins = 0;
+        while (!buffer.offer(object)) {
+            if (!running) {
+                throw new IllegalStateException("Dispatcher is closed");
+            }
+            if (++spins < SPINS_BEFORE_PARK) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        published.increment();
+        return true;
+    }
+
+    public DispatcherStatistics statistics() {
+        return new DispatcherStatistics(published.sum(), dropped.sum(), delivered.sum(), batches.sum(),
+            failedBatches.sum());
+    }
+
+    /**
+     * Stops accepting objects and waits until consumers deliver everything already published.
+     * Objects published concurrently with closing may be discarded.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        for (Thread consumer : consumers) {
+            consumer.join();
+        }
+    }
+
+    private void consumeLoop() {
+        final List<T> batch = new ArrayList<>(maxBatchSize);
+        final List<T> readOnlyBatch = Collections.unmodifiableList(batch);
+        int idleSpins = 0;
+        while (true) {
+            final boolean stopping = !running;
+            if (buffer.drainTo(batch, maxBatchSize) > 0) {
+                idleSpins = 0;
+                deliver(readOnlyBatch);
+                batch.clear();
+            } else if (stopping) {
+                return;
+            } else if (++idleSpins < SPINS_BEFORE_PARK) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Anything thrown by a sink or by the error handler is contained, a consumer thread that died would leave
+     * blocked producers waiting forever.
+     */
+    private void deliver(List<T> batch) {
+        boolean failed = false;
+        for (BatchSink<? super T> sink : sinks) {
+            try {
+                deliver(sink, batch);
+            } catch (Throwable e) {
+                failed = true;
+                handleError(e);
+            }
+        }
+        if (failed) {
+            failedBatches.increment();
+        }
+        delivered.add(batch.size());
+        batches.increment();
+    }
+
+    private void handleError(Throwable error) {
+        try {
+            errorHandler.accept(error);
+        } catch (Throwable ignored) {
+            // the error handler must not stop delivery either
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void deliver(BatchSink<T> sink, List<? extends T> batch) {
+        sink.accept((List<T>) batch);
+    }
+
+    public static final class Builder<T> {
+
+        private final List<BatchSink<? super T>> sinks = new ArrayList<>();
+        private int capacity = 64 * 1024;
+        private int maxBatchSize = 256;
+        private int consumers = 1;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private int sampleRate = 10;
+        private ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "parameter-object-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        };
+        private Consumer<? super Throwable> errorHandler = e -> {
+        };
+
+        private Builder() {
+        }
+
+        public Builder<T> sink(BatchSink<? super T> sink) {
+            sinks.add(Objects.requireNonNull(sink));
+            return this;
+        }
+
+        /**
+         * Ring buffer capacity, a power of two.
+         */
+        public Builder<T> capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Maximum number of objects passed to sinks at once.
+         */
+        public Builder<T> maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("Maximum batch size must be positive but was " + maxBatchSize);
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Number of consumer threads.
+         */
+        public Builder<T> consumers(int consumers) {
+            if (consumers <= 0) {
+                throw new IllegalArgumentException("Number of consumers must be positive but was " + consumers);
+            }
+            this.consumers = consumers;
+            return this;
+        }
+
+        public Builder<T> overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+            return this;
+        }
+
+        /**
+         * One of how many objects is accepted by {@link OverflowPolicy#SAMPLE} under pressure.
+         */
+        public Builder<T> sampleRate(int sampleRate) {
+            if (sampleRate <= 0) {
+                throw new IllegalArgumentException("Sample rate must be positive but was " + sampleRate);
+            }
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        public Builder<T> threadFactory(ThreadFactory threadFactory) {
+            this.threadFactory = Objects.requireNonNull(threadFactory);
+            return this;
+        }
+
+        /**
+         * Receives exceptions and errors thrown by sinks. The batch is still passed to the remaining sinks.
+         * Exceptions thrown by the handler itself are ignored.
+         */
+        public Builder<T> errorHandler(Consumer<? super Throwable> errorHandler) {
+            this.errorHandler = Objects.requireNonNull(errorHandler);
+            return this;
+        }
+
+        public Dispatcher<T> build() {
+            return new Dispatcher<>(this);
+        }
+    }
+}
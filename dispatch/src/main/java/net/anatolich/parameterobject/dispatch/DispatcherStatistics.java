@@ -0,0 +1,59 @@
+package net.anatolich.parameterobject.dispatch;
+
+/**
+ * Snapshot of {@link Dispatcher} counters.
+ */
+public final class DispatcherStatistics {
+
+    private final long published;
+    private final long dropped;
+    private final long delivered;
+    private final long batches;
+    private final long failedBatches;
+
+    DispatcherStatistics(long published, long dropped, long delivered, long batches, long failedBatches) {
+        this.published = published;
+        this.dropped = dropped;
+        this.delivered = delivered;
+        this.batches = batches;
+        this.failedBatches = failedBatches;
+    }
+
+    /**
+     * Objects accepted into the buffer.
+     */
+    public long published() {
+        return published;
+    }
+
+    /**
+     * Objects discarded by {@link OverflowPolicy#DROP} or {@link OverflowPolicy#SAMPLE}.
+     */
+    public long dropped() {
+        return dropped;
+    }
+
+    /**
+     * Objects handed to sinks.
+     */
+    public long delivered() {
+        return delivered;
+    }
+
+    public long batches() {
+        return batches;
+    }
+
+    /**
+     * Batches for which at least one sink threw an exception.
+     */
+    public long failedBatches() {
+        return failedBatches;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DispatcherStatistics{published=%d, dropped=%d, delivered=%d, batches=%d, failedBatches=%d}",
+            published, dropped, delivered, batches, failedBatches);
+    }
+}
@@ -0,0 +1,23 @@
+package net.anatolich.parameterobject.dispatch;
+
+/**
+ * What {@link Dispatcher#publish(Object)} does when consumers fall behind.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Wait until the buffer has free space.
+     */
+    BLOCK,
+
+    /**
+     * Discard objects published while the buffer is full.
+     */
+    DROP,
+
+    /**
+     * Once the buffer is more than half full accept only every n-th object, discard objects published
+     * while the buffer is full.
+     */
+    SAMPLE
+}
@@ -0,0 +1,10 @@
+package net.anatolich.parameterobject.dispatch;
+
+import net.anatolich.parameterobject.ParameterObject;
+
+class AnalyticsService {
+
+    @ParameterObject
+    void track(int producer, long sequence, String event) {
+    }
+}
@@ -0,0 +1,208 @@
+package net.anatolich.parameterobject.dispatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DispatcherStressTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int PER_PRODUCER = 100_000;
+
+    @Test
+    void blockingDispatcherDeliversEveryObjectInProducerOrder() throws InterruptedException {
+        final long[] lastSequence = new long[PRODUCERS];
+        final AtomicReference<String> violation = new AtomicReference<>();
+        final AtomicLong received = new AtomicLong();
+        final Dispatcher<AnalyticsServiceTrackParameters> dispatcher = Dispatcher.<AnalyticsServiceTrackParameters>builder()
+            .capacity(1024)
+            .maxBatchSize(128)
+            .sink(batch -> {
+                for (AnalyticsServiceTrackParameters parameters : batch) {
+                    if (parameters.getSequence() != lastSequence[parameters.getProducer()] + 1) {
+                        violation.compareAndSet(null, "Out of order: " + parameters.getProducer() + "/"
+                            + parameters.getSequence());
+                    }
+                    lastSequence[parameters.getProducer()] = parameters.getSequence();
+                }
+                received.addAndGet(batch.size());
+            })
+            .build();
+
+        runProducers(dispatcher);
+        dispatcher.close();
+
+        Assertions.assertThat(violation.get()).isNull();
+        Assertions.assertThat(received.get()).isEqualTo((long) PRODUCERS * PER_PRODUCER);
+        Assertions.assertThat(dispatcher.statistics().published()).isEqualTo((long) PRODUCERS * PER_PRODUCER);
+        Assertions.assertThat(dispatcher.statistics().dropped()).isZero();
+    }
+
+    @Test
+    void everySinkReceivesEveryBatch() throws InterruptedException {
+        final AtomicLong audit = new AtomicLong();
+        final AtomicLong analytics = new AtomicLong();
+        final Dispatcher<AnalyticsServiceTrackParameters> dispatcher = Dispatcher.<AnalyticsServiceTrackParameters>builder()
+            .consumers(2)
+            .sink(batch -> audit.addAndGet(batch.size()))
+            .sink(batch -> analytics.addAndGet(batch.size()))
+            .build();
+
+        runProducers(dispatcher);
+        dispatcher.close();
+
+        Assertions.assertThat(audit.get()).isEqualTo(analytics.get()).isEqualTo((long) PRODUCERS * PER_PRODUCER);
+    }
+
+    @Test
+    void dropPolicyDiscardsObjectsWhenConsumersFallBehind() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger received = new AtomicInteger();
+        final Dispatcher<AnalyticsServiceTrackParameters> dispatcher = Dispatcher.<AnalyticsServiceTrackParameters>builder()
+            .capacity(16)
+            .overflowPolicy(OverflowPolicy.DROP)
+            .sink(batch -> {
+                awaitQuietly(release);
+                received.addAndGet(batch.size());
+            })
+            .build();
+
+        int accepted = 0;
+        for (int i = 0; i < 1000; i++) {
+            accepted += dispatcher.publish(track(0, i)) ? 1 : 0;
+        }
+        release.countDown();
+        dispatcher.close();
+
+        Assertions.assertThat(accepted).isLessThan(1000);
+        Assertions.assertThat(received.get()).isEqualTo(accepted);
+        Assertions.assertThat(dispatcher.statistics().dropped()).isEqualTo(1000L - accepted);
+    }
+
+    @Test
+    void samplePolicyAcceptsEveryNthObjectUnderPressure() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Dispatcher<AnalyticsServiceTrackParameters> dispatcher = Dispatcher.<AnalyticsServiceTrackParameters>builder()
+            .capacity(1024)
+            .maxBatchSize(1)
+            .overflowPolicy(OverflowPolicy.SAMPLE)
+            .sampleRate(10)
+            .sink(batch -> awaitQuietly(release))
+            .build();
+
+        for (int i = 0; i < 1000; i++) {
+            dispatcher.publish(track(0, i));
+        }
+        release.countDown();
+        dispatcher.close();
+
+        Assertions.assertThat(dispatcher.statistics().published()).isBetween(500L, 600L);
+    }
+
+    @Test
+    void sinkFailuresAreReportedAndDoNotStopDelivery() throws InterruptedException {
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger received = new AtomicInteger();
+        final Dispatcher<AnalyticsServiceTrackParameters> dispatcher = Dispatcher.<AnalyticsServiceTrackParameters>builder()
+            .maxBatchSize(1)
+            .errorHandler(errors::add)
+            .sink(batch -> {
+                throw new IllegalStateException("sink is down");
+            })
+            .sink(batch -> received.addAndGet(batch.size()))
+            .build();
+
+        dispatcher.publish(track(0, 1));
+        dispatcher.publish(track(0, 2));
+        dispatcher.close();
+
+        Assertions.assertThat(received.get()).isEqualTo(2);
+        Assertions.assertThat(errors).hasSize(2);
+        Assertions.assertThat(dispatcher.statistics().failedBatches()).isEqualTo(2);
+    }
+
+    @Test
+    void sinkErrorsAndFailingErrorHandlerDoNotStopConsumers() throws InterruptedException {
+        final AtomicInteger received = new AtomicInteger();
+        final Dispatcher<AnalyticsServiceTrackParameters> dispatcher = Dispatcher.<AnalyticsServiceTrackParameters>builder()
+            .capacity(2)
+            .maxBatchSize(1)
+            .errorHandler(error -> {
+                throw new IllegalStateException("handler is down");
+            })
+            .sink(batch -> {
+                throw new AssertionError("sink is broken");
+            })
+            .sink(batch -> received.addAndGet(batch.size()))
+            .build();
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.publish(track(0, i));
+        }
+        dispatcher.close();
+
+        Assertions.assertThat(received.get()).isEqualTo(100);
+        Assertions.assertThat(dispatcher.statistics().failedBatches()).isEqualTo(100);
+    }
+
+    @Test
+    void builderRejectsNonPositiveBatchSizeAndConsumers() {
+        Assertions.assertThatThrownBy(() -> Dispatcher.builder().maxBatchSize(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Maximum batch size must be positive but was 0");
+        Assertions.assertThatThrownBy(() -> Dispatcher.builder().maxBatchSize(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> Dispatcher.builder().consumers(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Number of consumers must be positive but was 0");
+    }
+
+    @Test
+    void closedDispatcherRejectsObjects() throws InterruptedException {
+        final Dispatcher<AnalyticsServiceTrackParameters> dispatcher = Dispatcher.<AnalyticsServiceTrackParameters>builder()
+            .sink(batch -> {
+            })
+            .build();
+        dispatcher.close();
+
+        Assertions.assertThatThrownBy(() -> dispatcher.publish(track(0, 1)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Dispatcher is closed");
+    }
+
+    private static void runProducers(Dispatcher<AnalyticsServiceTrackParameters> dispatcher)
+        throws InterruptedException {
+        final List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            final int producer = p;
+            final Thread thread = new Thread(() -> {
+                for (int i = 1; i <= PER_PRODUCER; i++) {
+                    dispatcher.publish(track(producer, i));
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+    }
+
+    private static AnalyticsServiceTrackParameters track(int producer, long sequence) {
+        return new AnalyticsServiceTrackParameters(producer, sequence, "click");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package net.anatolich.parameterobject.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RingBufferTest {
+
+    @Test
+    void keepsFifoOrderAndRejectsWhenFull() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertThat(buffer.offer(i)).isTrue();
+        }
+        Assertions.assertThat(buffer.offer(4)).isFalse();
+        Assertions.assertThat(buffer.poll()).isEqualTo(0);
+        Assertions.assertThat(buffer.offer(4)).isTrue();
+
+        final List<Integer> drained = new ArrayList<>();
+        Assertions.assertThat(buffer.drainTo(drained, 10)).isEqualTo(4);
+        Assertions.assertThat(drained).containsExactly(1, 2, 3, 4);
+        Assertions.assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void rejectsCapacityOtherThanPowerOfTwo() {
+        Assertions.assertThatThrownBy(() -> new RingBuffer<>(12))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Capacity must be a power of two but was 12");
+    }
+
+    @Test
+    void deliversEveryElementOnceWithManyProducersAndConsumers() throws InterruptedException {
+        final int producers = 4;
+        final int consumers = 4;
+        final int perProducer = 200_000;
+        final RingBuffer<Integer> buffer = new RingBuffer<>(1024);
+        final ConcurrentLinkedQueue<Integer> received = new ConcurrentLinkedQueue<>();
+        final AtomicInteger remaining = new AtomicInteger(producers * perProducer);
+        final CountDownLatch done = new CountDownLatch(producers + consumers);
+
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(producer * perProducer + i)) {
+                        Thread.yield();
+                    }
+                }
+            }, done);
+        }
+        for (int c = 0; c < consumers; c++) {
+            start(() -> {
+                while (remaining.get() > 0) {
+                    final Integer element = buffer.poll();
+                    if (element != null) {
+                        received.add(element);
+                        remaining.decrementAndGet();
+                    }
+                }
+            }, done);
+        }
+        done.await();
+
+        Assertions.assertThat(received).hasSize(producers * perProducer).doesNotHaveDuplicates();
+    }
+
+    private static void start(Runnable task, CountDownLatch done) {
+        new Thread(() -> {
+            try {
+                task.run();
+            } finally {
+                done.countDown();
+            }
+        }).start();
+    }
+}
@@ -0,0 +1,99 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.StreamSupport;
+import net.anatolich.parameterobject.ArgumentsVisitor;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BatchTest {
+
+    @Test
+    void storesInvocationsByColumn() {
+        final SignaturesAuditParametersBatch batch = new SignaturesAuditParametersBatch(1);
+
+        batch.add(1000L, 7, true, "login", Collections.singletonList("web"));
+        batch.add(new SignaturesAuditParameters(2000L, 8, false, "logout", Collections.emptyList()));
+        batch.add(3000L, 9, true, "login", Arrays.asList("api", "token"));
+
+        Assertions.assertThat(batch.size()).isEqualTo(3);
+        Assertions.assertThat(batch.getTimestamp(1)).isEqualTo(2000L);
+        Assertions.assertThat(batch.getUserId(2)).isEqualTo(9);
+        Assertions.assertThat(batch.getSuccess(1)).isFalse();
+        Assertions.assertThat(batch.getAction(0)).isEqualTo("login");
+        Assertions.assertThat(batch.getTags(2)).containsExactly("api", "token");
+    }
+
+    @Test
+    void createsParameterObjectOfInvocation() {
+        final SignaturesAuditParametersBatch batch = new SignaturesAuditParametersBatch();
+        batch.add(1000L, 7, true, "login", Collections.singletonList("web"));
+
+        final SignaturesAuditParameters parameters = batch.get(0);
+
+        Assertions.assertThat(parameters.getUserId()).isEqualTo(7);
+        Assertions.assertThat(parameters.getTags()).containsExactly("web");
+    }
+
+    @Test
+    void rejectsIndexOutsideOfBatch() {
+        final SignaturesAuditParametersBatch batch = new SignaturesAuditParametersBatch();
+        batch.add(1000L, 7, true, "login", Collections.emptyList());
+
+        Assertions.assertThatThrownBy(() -> batch.getUserId(1))
+            .isInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("Index 1 out of batch of size 1");
+    }
+
+    @Test
+    void clearKeepsBatchReusable() {
+        final SignaturesAuditParametersBatch batch = new SignaturesAuditParametersBatch();
+        batch.add(1000L, 7, true, "login", Collections.emptyList());
+
+        batch.clear();
+        batch.add(2000L, 8, false, "logout", Collections.emptyList());
+
+        Assertions.assertThat(batch.size()).isEqualTo(1);
+        Assertions.assertThat(batch.getAction(0)).isEqualTo("logout");
+    }
+
+    @Test
+    void spliteratorSupportsParallelProcessing() {
+        final SignaturesAuditParametersBatch batch = new SignaturesAuditParametersBatch();
+        for (int i = 0; i < 100_000; i++) {
+            batch.add(i, i % 10, i % 2 == 0, "action", Collections.emptyList());
+        }
+
+        final long successfulTimestamps = StreamSupport.intStream(batch.spliterator(), true)
+            .filter(batch::getSuccess)
+            .mapToLong(batch::getTimestamp)
+            .sum();
+
+        Assertions.assertThat(successfulTimestamps).isEqualTo(2_499_950_000L);
+    }
+
+    @Test
+    void visitorReadsInvocationWithoutParameterObject() {
+        final SignaturesAuditParametersBatch batch = new SignaturesAuditParametersBatch();
+        batch.add(1000L, 7, true, "login", Collections.emptyList());
+        final List<String> visited = new ArrayList<>();
+
+        batch.accept(0, new ArgumentsVisitor() {
+            @Override
+            public void visitObject(String name, Object value) {
+                visited.add(name + "=" + value);
+            }
+
+            @Override
+            public void visitLong(String name, long value) {
+                visited.add("long " + name);
+            }
+        });
+
+        Assertions.assertThat(visited)
+            .containsExactly("long timestamp", "userId=7", "success=true", "action=login", "tags=[]");
+    }
+}
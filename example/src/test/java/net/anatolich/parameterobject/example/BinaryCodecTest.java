@@ -0,0 +1,102 @@
+package net.anatolich.parameterobject.example;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.function.Consumer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BinaryCodecTest {
+
+    @Test
+    void exampleRoundTrip() {
+        final ExampleCreateUserParameters parameters = new ExampleCreateUserParameters("alice",
+            "s3cr3t".toCharArray(), new LinkedHashSet<>(Arrays.asList("admin", "user")));
+
+        final ExampleCreateUserParameters restored = ExampleCreateUserParameters.readFrom(write(parameters.binarySize(),
+            parameters::writeTo, false));
+
+        Assertions.assertThat(restored.toArgs()).containsExactly(parameters.toArgs());
+    }
+
+    @Test
+    void allSupportedTypesRoundTripThroughHeapBuffer() {
+        final SignaturesBinaryTypesParameters parameters = allTypes();
+
+        final ByteBuffer buffer = write(parameters.binarySize(), parameters::writeTo, false);
+
+        Assertions.assertThat(SignaturesBinaryTypesParameters.readFrom(buffer).toArgs())
+            .containsExactly(parameters.toArgs());
+        Assertions.assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void allSupportedTypesRoundTripThroughDirectBuffer() {
+        final SignaturesBinaryTypesParameters parameters = allTypes();
+
+        final ByteBuffer buffer = write(parameters.binarySize(), parameters::writeTo, true);
+
+        Assertions.assertThat(SignaturesBinaryTypesParameters.readFrom(buffer).toArgs())
+            .containsExactly(parameters.toArgs());
+    }
+
+    @Test
+    void nullReferencesRoundTrip() {
+        final SignaturesBinaryTypesParameters parameters = new SignaturesBinaryTypesParameters(false, (byte) 0,
+            (short) 0, 'a', 0, 0L, 0f, 0d, null, null, null, null, null, null, null, null, null, null, null);
+
+        final ByteBuffer buffer = write(parameters.binarySize(), parameters::writeTo, false);
+
+        Assertions.assertThat(SignaturesBinaryTypesParameters.readFrom(buffer).toArgs())
+            .containsExactly(parameters.toArgs());
+    }
+
+    @Test
+    void binarySizeIsExact() {
+        final SignaturesBinaryTypesParameters parameters = allTypes();
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        parameters.writeTo(buffer);
+
+        Assertions.assertThat(buffer.position()).isEqualTo(parameters.binarySize());
+    }
+
+    @Test
+    void binarySizeIsExactForUnpairedSurrogates() {
+        final ExampleCreateUserParameters parameters = new ExampleCreateUserParameters("\uD800", null,
+            Collections.singleton("a\uDC00b\uD83D"));
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        parameters.writeTo(buffer);
+
+        Assertions.assertThat(buffer.position()).isEqualTo(parameters.binarySize());
+        buffer.flip();
+        Assertions.assertThat(ExampleCreateUserParameters.readFrom(buffer).getUsername()).isEqualTo("?");
+    }
+
+    @Test
+    void readingAnotherSchemaFails() {
+        final ExampleCreateUserParameters parameters = new ExampleCreateUserParameters("alice", null, null);
+        final ByteBuffer buffer = write(parameters.binarySize(), parameters::writeTo, false);
+
+        Assertions.assertThatThrownBy(() -> SignaturesBinaryTypesParameters.readFrom(buffer))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("SignaturesBinaryTypesParameters");
+    }
+
+    private static SignaturesBinaryTypesParameters allTypes() {
+        return new SignaturesBinaryTypesParameters(true, (byte) 7, (short) 300, '\u0436', 42, 1L << 40, 0.5f, 2.25,
+            17, "na\u00efve \u2713 \ud83d\ude00", new int[] {1, -2, 3}, new long[] {Long.MAX_VALUE}, new double[] {0.1, 0.2},
+            new byte[] {1, 2}, new String[] {"a", null, "c"}, Arrays.asList("x", "y"),
+            new LinkedHashSet<>(Arrays.asList(1L, 2L)), Collections.singletonList(3.5), Signatures.Level.HIGH);
+    }
+
+    private static ByteBuffer write(int size, Consumer<ByteBuffer> writer, boolean direct) {
+        final ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        writer.accept(buffer);
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,81 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CopyPolicyTest {
+
+    @Test
+    void copyOnConstructDetachesArgumentsFromCaller() {
+        final char[] password = "secret".toCharArray();
+        final Set<String> roles = new HashSet<>(Collections.singleton("user"));
+        final Map<String, Integer> limits = new HashMap<>(Collections.singletonMap("requests", 10));
+        final SignaturesCopyOnConstructParameters parameters = new SignaturesCopyOnConstructParameters(password,
+            roles, limits, "jane");
+
+        password[0] = 'X';
+        roles.add("admin");
+        limits.clear();
+
+        Assertions.assertThat(parameters.getPassword()).containsExactly("secret".toCharArray());
+        Assertions.assertThat(parameters.getRoles()).containsExactly("user");
+        Assertions.assertThat(parameters.getLimits()).containsEntry("requests", 10);
+        Assertions.assertThatThrownBy(() -> parameters.getRoles().add("admin"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void copyOnConstructAppliesToFromMap() {
+        final char[] password = "secret".toCharArray();
+        final Map<String, Object> map = new HashMap<>();
+        map.put("password", password);
+        map.put("roles", new HashSet<>(Collections.singleton("user")));
+
+        final SignaturesCopyOnConstructParameters parameters = SignaturesCopyOnConstructParameters.fromMap(map);
+
+        Assertions.assertThat(parameters.getPassword()).isNotSameAs(password).containsExactly(password);
+        Assertions.assertThat(parameters.getLimits()).isNull();
+    }
+
+    @Test
+    void unmodifiableViewKeepsCallerChangesVisible() {
+        final List<String> roles = new ArrayList<>(Collections.singletonList("user"));
+        final List<String> tags = new ArrayList<>();
+        final char[] password = "secret".toCharArray();
+        final SignaturesUnmodifiableViewParameters parameters = new SignaturesUnmodifiableViewParameters(password,
+            roles, tags);
+
+        roles.add("admin");
+
+        Assertions.assertThat(parameters.getRoles()).containsExactly("user", "admin");
+        Assertions.assertThatThrownBy(() -> parameters.getRoles().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThat(parameters.getPassword()).isNotSameAs(password).containsExactly(password);
+        Assertions.assertThat(parameters.getTags()).isSameAs(tags);
+    }
+
+    @Test
+    void copyOnReadReturnsFreshCopies() {
+        final int[] scores = {1, 2, 3};
+        final Collection<String> roles = new ArrayList<>(Arrays.asList("user", "admin"));
+        final SignaturesCopyOnReadParameters parameters = new SignaturesCopyOnReadParameters(scores, roles);
+
+        parameters.getScores()[0] = 100;
+        parameters.getRoles().clear();
+        ((int[]) parameters.toMap().get("scores"))[1] = 200;
+        ((int[]) parameters.toArgs()[0])[2] = 300;
+
+        Assertions.assertThat(parameters.getScores()).containsExactly(1, 2, 3);
+        Assertions.assertThat(parameters.getRoles()).containsExactly("user", "admin");
+        Assertions.assertThat(scores).containsExactly(1, 2, 3);
+    }
+}
@@ -0,0 +1,61 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.anatolich.parameterobject.ArgumentsVisitor;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DiffTest {
+
+    @Test
+    void equalParameterObjectsHaveNoChanges() {
+        final SignaturesMeterParameters parameters = new SignaturesMeterParameters(7, 42L, Double.NaN, true);
+
+        Assertions.assertThat(parameters.diff(parameters)).isZero();
+        Assertions.assertThat(parameters.diff(new SignaturesMeterParameters(7, 42L, Double.NaN, true))).isZero();
+        Assertions.assertThat(new SignaturesNoArgumentsParameters().diff(new SignaturesNoArgumentsParameters()))
+            .isZero();
+    }
+
+    @Test
+    void changedParametersSetTheirBits() {
+        final SignaturesMeterParameters before = new SignaturesMeterParameters(7, 42L, 0.5, true);
+
+        Assertions.assertThat(before.diff(new SignaturesMeterParameters(8, 42L, 0.5, true))).isEqualTo(0b0001);
+        Assertions.assertThat(before.diff(new SignaturesMeterParameters(7, 42L, 0.25, false))).isEqualTo(0b1100);
+    }
+
+    @Test
+    void arraysAndCollectionsAreComparedByContent() {
+        final SignaturesLoginParameters before = new SignaturesLoginParameters("jane", "secret".toCharArray(), 1,
+            0.5, Arrays.asList("admin"), Signatures.Level.LOW);
+        final SignaturesLoginParameters after = new SignaturesLoginParameters("jane", "changed".toCharArray(), 2,
+            0.5, Collections.singletonList("admin"), null);
+
+        Assertions.assertThat(after.diff(before)).isEqualTo(0b100110);
+    }
+
+    @Test
+    void onlyChangedParametersAreVisited() {
+        final SignaturesMeterParameters before = new SignaturesMeterParameters(7, 42L, 0.5, true);
+        final SignaturesMeterParameters after = new SignaturesMeterParameters(7, 43L, 0.5, false);
+        final List<String> visited = new ArrayList<>();
+
+        after.acceptChanges(before, new ArgumentsVisitor() {
+            @Override
+            public void visitObject(String name, Object value) {
+                visited.add(name + "=" + value);
+            }
+
+            @Override
+            public void visitLong(String name, long value) {
+                visited.add("long " + name + "=" + value);
+            }
+        });
+
+        Assertions.assertThat(visited).containsExactly("long duration=43", "success=false");
+    }
+}
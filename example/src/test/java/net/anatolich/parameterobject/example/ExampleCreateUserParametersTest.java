@@ -0,0 +1,62 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ExampleCreateUserParametersTest {
+
+    private static final char[] PASSWORD = "s3cr3t".toCharArray();
+    private static final Set<String> ROLES = new HashSet<>(Arrays.asList("admin", "user"));
+
+    @Test
+    void toMapExposesParametersByName() {
+        final ExampleCreateUserParameters parameters = new ExampleCreateUserParameters("alice", PASSWORD, ROLES);
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("username", "alice");
+        expected.put("password", PASSWORD);
+        expected.put("roles", ROLES);
+        Assertions.assertThat(parameters.toMap())
+            .containsOnlyKeys("username", "password", "roles")
+            .isEqualTo(expected)
+            .doesNotContainKey("unknown");
+    }
+
+    @Test
+    void toMapIsReadOnly() {
+        final Map<String, Object> map = new ExampleCreateUserParameters("alice", PASSWORD, ROLES).toMap();
+
+        Assertions.assertThatThrownBy(() -> map.put("username", "bob"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(() -> map.remove("username"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void fromMapReadsToMapResult() {
+        final ExampleCreateUserParameters parameters = ExampleCreateUserParameters
+            .fromMap(new ExampleCreateUserParameters("alice", PASSWORD, ROLES).toMap());
+
+        Assertions.assertThat(parameters.getUsername()).isEqualTo("alice");
+        Assertions.assertThat(parameters.getPassword()).isSameAs(PASSWORD);
+        Assertions.assertThat(parameters.getRoles()).isSameAs(ROLES);
+    }
+
+    @Test
+    void mutableMapKeepsCopyingBehavior() {
+        final Map<String, Object> map = new SignaturesLegacyAuditParameters("message", Collections.emptyList())
+            .toMap();
+
+        map.put("message", "changed");
+
+        Assertions.assertThat(map)
+            .isInstanceOf(HashMap.class)
+            .containsEntry("message", "changed");
+    }
+}
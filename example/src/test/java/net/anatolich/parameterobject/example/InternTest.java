@@ -0,0 +1,22 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InternTest {
+
+    @Test
+    void equalParameterObjectsInternToSameInstance() {
+        final SignaturesSessionParameters first = new SignaturesSessionParameters("intern-jane",
+            new HashSet<>(Arrays.asList("admin", "user")));
+        final SignaturesSessionParameters second = new SignaturesSessionParameters("intern-jane",
+            new HashSet<>(Arrays.asList("user", "admin")));
+
+        final SignaturesSessionParameters interned = first.intern();
+
+        Assertions.assertThat(second.intern()).isSameAs(interned);
+        Assertions.assertThat(new SignaturesSessionParameters("intern-john", null).intern()).isNotSameAs(interned);
+    }
+}
@@ -0,0 +1,54 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.anatolich.parameterobject.Interner;
+import net.anatolich.parameterobject.InternerStatistics;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InternerTest {
+
+    @Test
+    void equalValuesInternToFirstInstance() {
+        final Interner<String> interner = Interner.create(64);
+        final String first = new String("jane");
+        final String second = new String("jane");
+
+        Assertions.assertThat(interner.intern(first)).isSameAs(first);
+        Assertions.assertThat(interner.intern(second)).isSameAs(first);
+        Assertions.assertThat(interner.intern("john")).isEqualTo("john");
+
+        final InternerStatistics statistics = interner.statistics();
+        Assertions.assertThat(statistics.hits()).isEqualTo(1);
+        Assertions.assertThat(statistics.misses()).isEqualTo(2);
+        Assertions.assertThat(statistics.rejections()).isZero();
+        Assertions.assertThat(statistics.size()).isEqualTo(2);
+    }
+
+    @Test
+    void fullInternerReturnsValuesAsTheyAre() {
+        final Interner<String> interner = Interner.create(16);
+        final List<String> values = IntStream.range(0, 200)
+            .mapToObj(i -> "value-" + i)
+            .collect(Collectors.toList());
+
+        final List<String> interned = values.stream()
+            .map(interner::intern)
+            .collect(Collectors.toList());
+
+        Assertions.assertThat(interned).isEqualTo(values);
+        final InternerStatistics statistics = interner.statistics();
+        Assertions.assertThat(statistics.size()).isLessThanOrEqualTo(16);
+        Assertions.assertThat(statistics.misses()).isEqualTo(statistics.size());
+        Assertions.assertThat(statistics.rejections()).isEqualTo(200 - statistics.size());
+    }
+
+    @Test
+    void maximumSizeMustBePositive() {
+        Assertions.assertThatThrownBy(() -> Interner.create(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Maximum size must be positive but was 0");
+    }
+}
@@ -0,0 +1,31 @@
+package net.anatolich.parameterobject.example;
+
+import java.io.IOException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InvokeTest {
+
+    private final Signatures signatures = new Signatures();
+
+    @Test
+    void invokesInstanceMethodWithStoredArguments() throws IOException {
+        final SignaturesDescribeParameters parameters = new SignaturesDescribeParameters("apple", 3);
+
+        Assertions.assertThat(parameters.invoke(signatures)).isEqualTo("apple x3");
+    }
+
+    @Test
+    void propagatesCheckedExceptions() {
+        final SignaturesDescribeParameters parameters = SignaturesDescribeParameters.fromArgs("pear", -1);
+
+        Assertions.assertThatThrownBy(() -> parameters.invoke(signatures))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Negative count of pear");
+    }
+
+    @Test
+    void invokesStaticMethodWithoutTarget() {
+        Assertions.assertThat(new SignaturesSumParameters(40L, 2L).invoke()).isEqualTo(42L);
+    }
+}
@@ -0,0 +1,83 @@
+package net.anatolich.parameterobject.example;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.anatolich.parameterobject.Json;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class JsonWriterTest {
+
+    @Test
+    void writesParametersAsJsonObject() throws IOException {
+        final SignaturesMeterParameters parameters = new SignaturesMeterParameters(-7, 1234567890123L, 0.5, true);
+        final StringBuilder json = new StringBuilder();
+
+        parameters.writeJson(json);
+
+        Assertions.assertThat(json.toString())
+            .isEqualTo("{\"count\":-7,\"duration\":1234567890123,\"ratio\":0.5,\"success\":true}");
+    }
+
+    @Test
+    void redactedParametersAreWrittenAsPlaceholder() throws IOException {
+        final SignaturesLoginParameters parameters = new SignaturesLoginParameters("jane \"j\" doe\n",
+            "secret".toCharArray(), 0, Double.NaN, Arrays.asList("admin", null), Signatures.Level.HIGH);
+        final StringBuilder json = new StringBuilder();
+
+        parameters.writeJson(json);
+
+        Assertions.assertThat(json.toString()).isEqualTo("{\"username\":\"jane \\\"j\\\" doe\\n\","
+            + "\"password\":\"***\",\"attempt\":0,\"score\":null,\"roles\":[\"admin\",null],\"level\":\"HIGH\"}");
+    }
+
+    @Test
+    void writesNullReferences() throws IOException {
+        final SignaturesLoginParameters parameters = new SignaturesLoginParameters(null, null, 1, 1.0, null, null);
+        final StringBuilder json = new StringBuilder();
+
+        parameters.writeJson(json);
+
+        Assertions.assertThat(json.toString()).isEqualTo("{\"username\":null,\"password\":\"***\","
+            + "\"attempt\":1,\"score\":1.0,\"roles\":null,\"level\":null}");
+    }
+
+    @Test
+    void writesEmptyObjectWithoutParameters() throws IOException {
+        final StringBuilder json = new StringBuilder();
+
+        new SignaturesNoArgumentsParameters().writeJson(json);
+
+        Assertions.assertThat(json.toString()).isEqualTo("{}");
+    }
+
+    @Test
+    void pathsAreWrittenAsStrings() throws IOException {
+        final StringBuilder json = new StringBuilder();
+
+        Json.writeValue(json, (Object) Paths.get("a"));
+        json.append(',');
+        Json.writeValue(json, Paths.get("a", "b"));
+
+        Assertions.assertThat(json.toString()).isEqualTo("\"a\",\"a/b\"");
+    }
+
+    @Test
+    void containersHoldingThemselvesDoNotRecurse() throws IOException {
+        final List<Object> list = new ArrayList<>();
+        list.add(list);
+        final Map<String, Object> map = new HashMap<>();
+        map.put("self", map);
+        final StringBuilder json = new StringBuilder();
+
+        Json.writeValue(json, (Object) list);
+        Json.writeValue(json, (Object) map);
+
+        Assertions.assertThat(json.toString()).isEqualTo("[\"(this Collection)\"]{\"self\":\"(this Map)\"}");
+    }
+}
@@ -0,0 +1,91 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LazyFromMapTest {
+
+    @Test
+    void onlyParametersThatAreReadTouchTheMap() {
+        final AtomicInteger reads = new AtomicInteger();
+        final Map<String, Object> arguments = new HashMap<String, Object>() {
+            @Override
+            public Object get(Object key) {
+                reads.incrementAndGet();
+                return super.get(key);
+            }
+        };
+        arguments.put("username", "jane");
+        arguments.put("attempt", 3);
+
+        final SignaturesLoginParameters.Lazy parameters = SignaturesLoginParameters.lazyFromMap(arguments);
+
+        Assertions.assertThat(reads).hasValue(0);
+        Assertions.assertThat(parameters.getUsername()).isEqualTo("jane");
+        Assertions.assertThat(parameters.getUsername()).isEqualTo("jane");
+        Assertions.assertThat(reads).hasValue(1);
+    }
+
+    @Test
+    void missingReferenceParametersAreNull() {
+        final SignaturesLoginParameters.Lazy parameters = SignaturesLoginParameters.lazyFromMap(new HashMap<>());
+
+        Assertions.assertThat(parameters.getRoles()).isNull();
+        Assertions.assertThat(parameters.getLevel()).isNull();
+    }
+
+    @Test
+    void wrongTypesAndMissingPrimitivesAreReportedByName() {
+        final Map<String, Object> arguments = new HashMap<>();
+        arguments.put("roles", "admin");
+        final SignaturesLoginParameters.Lazy parameters = SignaturesLoginParameters.lazyFromMap(arguments);
+
+        Assertions.assertThatThrownBy(parameters::getRoles)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Parameter roles must be java.util.List but was java.lang.String");
+        Assertions.assertThatThrownBy(parameters::getAttempt)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Parameter attempt is missing");
+    }
+
+    @Test
+    void lazyParametersMaterializeIntoParameterObject() {
+        final List<String> roles = Arrays.asList("admin");
+        final SignaturesLoginParameters expected = new SignaturesLoginParameters("jane", "secret".toCharArray(), 3,
+            0.5, roles, Signatures.Level.LOW);
+
+        Assertions.assertThat(SignaturesLoginParameters.lazyFromMap(expected.toMap()).toParameters())
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void copyPolicyIsAppliedOnFirstRead() {
+        final char[] password = "secret".toCharArray();
+        final Map<String, Object> arguments = new HashMap<>();
+        arguments.put("password", password);
+
+        final SignaturesCopyOnConstructParameters.Lazy parameters = SignaturesCopyOnConstructParameters
+            .lazyFromMap(arguments);
+        final char[] read = parameters.getPassword();
+        password[0] = 'x';
+
+        Assertions.assertThat(read).isNotSameAs(password).startsWith('s');
+    }
+
+    @Test
+    void materializingDoesNotCopyReadValuesAgain() {
+        final Map<String, Object> arguments = new HashMap<>();
+        arguments.put("password", "secret".toCharArray());
+
+        final SignaturesCopyOnConstructParameters.Lazy parameters = SignaturesCopyOnConstructParameters
+            .lazyFromMap(arguments);
+        final char[] read = parameters.getPassword();
+
+        Assertions.assertThat(parameters.toParameters().getPassword()).isSameAs(read);
+    }
+}
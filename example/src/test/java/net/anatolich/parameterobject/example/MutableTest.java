@@ -0,0 +1,96 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.anatolich.parameterobject.ArgumentsVisitor;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MutableTest {
+
+    @Test
+    void releasedInstanceIsReusedWithParametersReset() {
+        final SignaturesTraceParameters.Mutable first = SignaturesTraceParameters.Mutable.acquire()
+            .set(1000L, true, "query", Collections.singletonList("db"));
+        first.release();
+
+        final SignaturesTraceParameters.Mutable second = SignaturesTraceParameters.Mutable.acquire();
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(second.getTimestamp()).isZero();
+        Assertions.assertThat(second.getSampled()).isFalse();
+        Assertions.assertThat(second.getOperation()).isNull();
+        Assertions.assertThat(second.getTags()).isNull();
+        second.release();
+    }
+
+    @Test
+    void toImmutableCopiesAccordingToCopyPolicy() {
+        final List<String> tags = new ArrayList<>(Arrays.asList("db", "slow"));
+        final SignaturesTraceParameters.Mutable mutable = SignaturesTraceParameters.Mutable.acquire()
+            .setTimestamp(1000L)
+            .setOperation("query")
+            .setTags(tags);
+
+        final SignaturesTraceParameters parameters = mutable.toImmutable();
+        mutable.release();
+        tags.add("retried");
+
+        Assertions.assertThat(parameters)
+            .isEqualTo(new SignaturesTraceParameters(1000L, false, "query", Arrays.asList("db", "slow")));
+        Assertions.assertThat(SignaturesTraceParameters.Mutable.acquire().copyFrom(parameters).toImmutable())
+            .isEqualTo(parameters);
+    }
+
+    @Test
+    void mapAndVisitorReadCurrentValues() {
+        final SignaturesTraceParameters.Mutable mutable = SignaturesTraceParameters.Mutable.acquire()
+            .set(1000L, true, "query", Collections.emptyList());
+        final List<String> visited = new ArrayList<>();
+
+        mutable.accept(new ArgumentsVisitor() {
+            @Override
+            public void visitObject(String name, Object value) {
+                visited.add(name + "=" + value);
+            }
+
+            @Override
+            public void visitLong(String name, long value) {
+                visited.add("long " + name);
+            }
+        });
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("timestamp", 1000L);
+        expected.put("sampled", true);
+        expected.put("operation", "query");
+        expected.put("tags", Collections.emptyList());
+
+        Assertions.assertThat(mutable.toMap()).isEqualTo(expected);
+        Assertions.assertThat(visited).containsExactly("long timestamp", "sampled=true", "operation=query", "tags=[]");
+        mutable.release();
+    }
+
+    @Test
+    void useAfterReleaseFailsWithAssertionsEnabled() {
+        final SignaturesTraceParameters.Mutable mutable = SignaturesTraceParameters.Mutable.acquire();
+        mutable.release();
+
+        Assertions.assertThatThrownBy(() -> mutable.setOperation("query"))
+            .isInstanceOf(AssertionError.class)
+            .hasMessage("Mutable parameters used after release");
+    }
+
+    @Test
+    void releasingTwiceFails() {
+        final SignaturesTraceParameters.Mutable mutable = SignaturesTraceParameters.Mutable.acquire();
+        mutable.release();
+
+        Assertions.assertThatThrownBy(mutable::release)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Mutable parameters released twice");
+    }
+}
@@ -0,0 +1,45 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PositionalArgumentsTest {
+
+    @Test
+    void fromArgsReadsParametersByPosition() {
+        final char[] password = "s3cr3t".toCharArray();
+        final Set<String> roles = new HashSet<>(Arrays.asList("admin", "user"));
+
+        final ExampleCreateUserParameters parameters = ExampleCreateUserParameters
+            .fromArgs("alice", password, roles);
+
+        Assertions.assertThat(parameters.getUsername()).isEqualTo("alice");
+        Assertions.assertThat(parameters.getPassword()).isSameAs(password);
+        Assertions.assertThat(parameters.getRoles()).isSameAs(roles);
+    }
+
+    @Test
+    void toArgsKeepsParameterOrder() {
+        final Object[] args = {7, 42L, 0.5, true};
+
+        Assertions.assertThat(SignaturesMeterParameters.fromArgs(args).toArgs())
+            .containsExactly(args);
+    }
+
+    @Test
+    void fromArgsFailsOnArityMismatch() {
+        Assertions.assertThatThrownBy(() -> ExampleCreateUserParameters.fromArgs("alice"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Expected 3 arguments but got 1");
+    }
+
+    @Test
+    void arityCheckCanBeDisabled() {
+        final SignaturesLenientParameters parameters = SignaturesLenientParameters.fromArgs("first", "second", "extra");
+
+        Assertions.assertThat(parameters.toArgs()).containsExactly("first", "second");
+    }
+}
@@ -0,0 +1,57 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.anatolich.parameterobject.ArgumentsVisitor;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveAccessTest {
+
+    private final SignaturesMeterParameters parameters = new SignaturesMeterParameters(7, 42L, 0.5, true);
+
+    @Test
+    void primitiveGettersReadByName() {
+        Assertions.assertThat(parameters.getInt("count")).isEqualTo(7);
+        Assertions.assertThat(parameters.getLong("duration")).isEqualTo(42L);
+        Assertions.assertThat(parameters.getDouble("ratio")).isEqualTo(0.5);
+        Assertions.assertThat(parameters.getBoolean("success")).isTrue();
+    }
+
+    @Test
+    void primitiveGetterRejectsParameterOfOtherType() {
+        Assertions.assertThatThrownBy(() -> parameters.getInt("duration"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No int parameter named duration");
+    }
+
+    @Test
+    void visitorReceivesPrimitiveCallbacks() {
+        final List<String> visited = new ArrayList<>();
+
+        parameters.accept(new ArgumentsVisitor() {
+            @Override
+            public void visitObject(String name, Object value) {
+                visited.add("object " + name);
+            }
+
+            @Override
+            public void visitInt(String name, int value) {
+                visited.add("int " + name + "=" + value);
+            }
+
+            @Override
+            public void visitLong(String name, long value) {
+                visited.add("long " + name + "=" + value);
+            }
+
+            @Override
+            public void visitDouble(String name, double value) {
+                visited.add("double " + name + "=" + value);
+            }
+        });
+
+        Assertions.assertThat(visited)
+            .containsExactly("int count=7", "long duration=42", "double ratio=0.5", "object success");
+    }
+}
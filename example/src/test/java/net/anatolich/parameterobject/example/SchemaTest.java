@@ -0,0 +1,52 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.anatolich.parameterobject.ParameterDescriptor;
+import net.anatolich.parameterobject.ParameterSchema;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SchemaTest {
+
+    private final SignaturesLoginParameters parameters = new SignaturesLoginParameters("jane",
+        "secret".toCharArray(), 3, 0.5, Arrays.asList("admin"), Signatures.Level.LOW);
+
+    @Test
+    void schemaDescribesParametersInSignatureOrder() {
+        final ParameterSchema schema = SignaturesLoginParameters.SCHEMA;
+
+        Assertions.assertThat(schema.descriptors())
+            .extracting(ParameterDescriptor::name)
+            .containsExactly("username", "password", "attempt", "score", "roles", "level");
+        Assertions.assertThat(schema.descriptors())
+            .extracting(ParameterDescriptor::type)
+            .containsExactly(String.class, char[].class, int.class, double.class, List.class,
+                Signatures.Level.class);
+        Assertions.assertThat(schema.descriptor(4).genericType()).isEqualTo("java.util.List<java.lang.String>");
+        Assertions.assertThat(schema.indexOf("score")).isEqualTo(3);
+        Assertions.assertThat(schema.indexOf("missing")).isEqualTo(-1);
+    }
+
+    @Test
+    void indexedGetterReadsParametersWithoutReflection() {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (ParameterDescriptor descriptor : SignaturesLoginParameters.SCHEMA.descriptors()) {
+            values.put(descriptor.name(), parameters.get(descriptor.index()));
+        }
+
+        Assertions.assertThat(values.keySet()).containsExactlyElementsOf(parameters.toMap().keySet());
+        Assertions.assertThat(values).containsEntry("attempt", 3).containsEntry("level", Signatures.Level.LOW);
+        Assertions.assertThat((char[]) values.get("password")).containsExactly("secret".toCharArray());
+    }
+
+    @Test
+    void indexOutsideOfSchemaIsRejected() {
+        Assertions.assertThatThrownBy(() -> parameters.get(6))
+            .isInstanceOf(IndexOutOfBoundsException.class)
+            .hasMessage("No parameter at 6");
+        Assertions.assertThat(SignaturesNoArgumentsParameters.SCHEMA.size()).isZero();
+    }
+}
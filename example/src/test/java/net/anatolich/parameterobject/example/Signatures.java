@@ -0,0 +1,80 @@
+package net.anatolich.parameterobject.example;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.anatolich.parameterobject.CopyParameter;
+import net.anatolich.parameterobject.CopyPolicy;
+import net.anatolich.parameterobject.ParameterObject;
+
+class Signatures {
+
+    @ParameterObject(mutableMap = true)
+    void legacyAudit(String message, List<String> tags) {
+    }
+
+    @ParameterObject
+    void meter(int count, long duration, double ratio, boolean success) {
+    }
+
+    @ParameterObject(checkArity = false)
+    void lenient(String first, String second) {
+    }
+
+    @ParameterObject
+    void binaryTypes(boolean flag, byte small, short medium, char letter, int count, long id, float ratio,
+        double amount, Integer boxed, String text, int[] numbers, long[] ids, double[] amounts, byte[] payload,
+        String[] names, List<String> tags, Set<Long> keys, Collection<Double> weights, Level level) {
+    }
+
+    @ParameterObject(redacted = "password")
+    void login(String username, char[] password, int attempt, double score, List<String> roles, Level level) {
+    }
+
+    @ParameterObject
+    void noArguments() {
+    }
+
+    @ParameterObject
+    String describe(String name, int count) throws IOException {
+        if (count < 0) {
+            throw new IOException("Negative count of " + name);
+        }
+        return name + " x" + count;
+    }
+
+    @ParameterObject
+    static long sum(long first, long second) {
+        return first + second;
+    }
+
+    @ParameterObject(batch = true)
+    void audit(long timestamp, int userId, boolean success, String action, List<String> tags) {
+    }
+
+    @ParameterObject(copyPolicy = CopyPolicy.COPY_ON_CONSTRUCT, builder = true)
+    void copyOnConstruct(char[] password, Set<String> roles, Map<String, Integer> limits, String name) {
+    }
+
+    @ParameterObject(copyPolicy = CopyPolicy.UNMODIFIABLE_VIEW)
+    void unmodifiableView(char[] password, List<String> roles, @CopyParameter(CopyPolicy.SHARE) List<String> tags) {
+    }
+
+    @ParameterObject(copyPolicy = CopyPolicy.COPY_ON_READ)
+    void copyOnRead(int[] scores, Collection<String> roles) {
+    }
+
+    @ParameterObject(intern = true)
+    void session(String username, Set<String> roles) {
+    }
+
+    @ParameterObject(mutable = true, copyPolicy = CopyPolicy.COPY_ON_CONSTRUCT)
+    void trace(long timestamp, boolean sampled, String operation, List<String> tags) {
+    }
+
+    enum Level {
+        LOW, HIGH
+    }
+}
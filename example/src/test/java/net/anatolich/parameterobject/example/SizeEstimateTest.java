@@ -0,0 +1,62 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.Arrays;
+import java.util.Collections;
+import net.anatolich.parameterobject.ByteBudget;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SizeEstimateTest {
+
+    @Test
+    void primitiveParametersTakeShallowSizeOnly() {
+        Assertions.assertThat(new SignaturesMeterParameters(7, 42L, 0.5, true).estimatedSizeBytes()).isEqualTo(40);
+        Assertions.assertThat(new SignaturesNoArgumentsParameters().estimatedSizeBytes()).isEqualTo(16);
+    }
+
+    @Test
+    void referencedValuesAreAddedToShallowSize() {
+        final SignaturesLoginParameters parameters = new SignaturesLoginParameters("jane", "secret".toCharArray(), 1,
+            0.5, Arrays.asList("admin"), Signatures.Level.LOW);
+
+        Assertions.assertThat(parameters.estimatedSizeBytes()).isEqualTo(40 + 48 + 32 + 136);
+        Assertions.assertThat(new SignaturesLoginParameters(null, null, 1, 0.5, null, null).estimatedSizeBytes())
+            .isEqualTo(40);
+    }
+
+    @Test
+    void largeCollectionsAreExtrapolatedFromSample() {
+        final SignaturesLoginParameters parameters = new SignaturesLoginParameters(null, null, 1, 0.5,
+            Collections.nCopies(1000, "abcd"), null);
+
+        Assertions.assertThat(parameters.estimatedSizeBytes()).isEqualTo(40 + 48 + 1000 * (32 + 48));
+    }
+
+    @Test
+    void budgetBoundsBufferedParameterObjects() {
+        final ByteBudget budget = new ByteBudget(100);
+        final SignaturesMeterParameters parameters = new SignaturesMeterParameters(7, 42L, 0.5, true);
+
+        Assertions.assertThat(budget.tryAcquire(parameters)).isEqualTo(40);
+        Assertions.assertThat(budget.tryAcquire(parameters)).isEqualTo(40);
+        Assertions.assertThat(budget.tryAcquire(parameters)).isEqualTo(-1);
+        Assertions.assertThat(budget.availableBytes()).isEqualTo(20);
+
+        budget.release(40);
+
+        Assertions.assertThat(budget.tryAcquire(parameters)).isEqualTo(40);
+        Assertions.assertThat(budget.usedBytes()).isEqualTo(80);
+    }
+
+    @Test
+    void oversizedObjectPassesThroughEmptyBudget() {
+        final ByteBudget budget = new ByteBudget(16);
+        final SignaturesMeterParameters parameters = new SignaturesMeterParameters(7, 42L, 0.5, true);
+
+        Assertions.assertThat(budget.tryAcquire(parameters)).isEqualTo(40);
+        Assertions.assertThat(budget.tryAcquire(new SignaturesNoArgumentsParameters())).isEqualTo(-1);
+        budget.release(40);
+        Assertions.assertThatThrownBy(() -> budget.release(1)).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(budget.usedBytes()).isZero();
+    }
+}
@@ -0,0 +1,66 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ValueSemanticsTest {
+
+    @Test
+    void parameterObjectsWithEqualArgumentsAreEqual() {
+        final SignaturesMeterParameters first = new SignaturesMeterParameters(7, 42L, Double.NaN, true);
+        final SignaturesMeterParameters second = SignaturesMeterParameters.fromArgs(7, 42L, Double.NaN, true);
+
+        Assertions.assertThat(first).isEqualTo(second);
+        Assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
+    @Test
+    void parameterObjectsWithDifferentArgumentsAreNotEqual() {
+        final SignaturesMeterParameters first = new SignaturesMeterParameters(7, 42L, 0.0, true);
+
+        Assertions.assertThat(first)
+            .isNotEqualTo(new SignaturesMeterParameters(7, 42L, -0.0, true))
+            .isNotEqualTo(new SignaturesMeterParameters(7, 43L, 0.0, true))
+            .isNotEqualTo(null)
+            .isNotEqualTo("meter");
+    }
+
+    @Test
+    void hashCodeFollowsChangesOfSharedCollections() {
+        final Set<String> roles = new HashSet<>(Collections.singleton("user"));
+        final ExampleCreateUserParameters first = new ExampleCreateUserParameters("jane", null, roles);
+        final int hashBefore = first.hashCode();
+
+        roles.add("admin");
+        final ExampleCreateUserParameters second = new ExampleCreateUserParameters("jane", null,
+            new HashSet<>(Arrays.asList("user", "admin")));
+
+        Assertions.assertThat(first).isEqualTo(second);
+        Assertions.assertThat(first.hashCode()).isNotEqualTo(hashBefore).isEqualTo(second.hashCode());
+        Assertions.assertThat(Collections.singletonMap(first, "cached")).containsKey(second);
+    }
+
+    @Test
+    void arraysAreComparedByContent() {
+        final SignaturesLoginParameters first = new SignaturesLoginParameters("jane", "secret".toCharArray(), 1,
+            0.5, Arrays.asList("admin"), Signatures.Level.LOW);
+        final SignaturesLoginParameters second = new SignaturesLoginParameters("jane", "secret".toCharArray(), 1,
+            0.5, Collections.singletonList("admin"), Signatures.Level.LOW);
+
+        Assertions.assertThat(first).isEqualTo(second);
+        Assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
+    @Test
+    void nullReferencesAreEqual() {
+        final SignaturesLoginParameters first = new SignaturesLoginParameters(null, null, 1, 0.5, null, null);
+        final SignaturesLoginParameters second = new SignaturesLoginParameters(null, null, 1, 0.5, null, null);
+
+        Assertions.assertThat(first).isEqualTo(second);
+        Assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+}
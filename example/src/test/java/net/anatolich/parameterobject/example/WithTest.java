@@ -0,0 +1,63 @@
+package net.anatolich.parameterobject.example;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WithTest {
+
+    @Test
+    void withReplacesOneParameter() {
+        final SignaturesSumParameters parameters = new SignaturesSumParameters(1L, 2L);
+
+        final SignaturesSumParameters changed = parameters.withSecond(3L);
+
+        Assertions.assertThat(changed).isEqualTo(new SignaturesSumParameters(1L, 3L));
+        Assertions.assertThat(parameters).isEqualTo(new SignaturesSumParameters(1L, 2L));
+    }
+
+    @Test
+    void withSharesUnchangedValuesAndCopiesChangedOne() {
+        final SignaturesCopyOnConstructParameters parameters = new SignaturesCopyOnConstructParameters(
+            new char[] {'s'}, new HashSet<>(Arrays.asList("user")), Collections.singletonMap("requests", 10), "jane");
+        final Set<String> newRoles = new HashSet<>(Arrays.asList("user", "admin"));
+
+        final SignaturesCopyOnConstructParameters changed = parameters.withRoles(newRoles);
+        newRoles.add("root");
+
+        Assertions.assertThat(changed.getPassword()).isSameAs(parameters.getPassword());
+        Assertions.assertThat(changed.getLimits()).isSameAs(parameters.getLimits());
+        Assertions.assertThat(changed.getName()).isSameAs(parameters.getName());
+        Assertions.assertThat(changed.getRoles()).containsExactlyInAnyOrder("user", "admin");
+    }
+
+    @Test
+    void builderSeededFromParametersBatchesChanges() {
+        final Map<String, Integer> limits = new LinkedHashMap<>();
+        limits.put("requests", 10);
+        final SignaturesCopyOnConstructParameters parameters = SignaturesCopyOnConstructParameters.builder()
+            .password(new char[] {'s'})
+            .roles(Collections.singleton("user"))
+            .limits(limits)
+            .name("jane")
+            .build();
+        limits.put("requests", 20);
+
+        final SignaturesCopyOnConstructParameters changed = parameters.toBuilder()
+            .name("john")
+            .roles(Collections.emptySet())
+            .build();
+
+        Assertions.assertThat(parameters.getLimits()).containsEntry("requests", 10);
+        Assertions.assertThat(changed.getLimits()).isSameAs(parameters.getLimits());
+        Assertions.assertThat(changed.getName()).isEqualTo("john");
+        Assertions.assertThat(changed.getRoles()).isEmpty();
+        Assertions.assertThat(changed.toBuilder().name("jane").roles(Collections.singleton("user")).build())
+            .isEqualTo(parameters);
+    }
+}
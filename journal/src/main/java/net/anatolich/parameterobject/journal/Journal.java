@@ -0,0 +1,219 @@
+package net.anatolich.parameterobject.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import net.anatolich.parameterobject.BinaryWritable;
+
+/**
+ * Append-only journal of parameter objects in memory-mapped segment files.
+ * <p>
+ * Callers only enqueue records. A single writer thread drains the queue in batches, writes each batch into
+ * the current segment and completes the batch futures after one {@code force()} (group commit).
+ * Segments are rolled when the next record does not fit. Use {@link JournalReader} to replay records.
+ */
+public class Journal<T extends BinaryWritable> implements AutoCloseable {
+
+    private static final long POLL_TIMEOUT_MILLIS = 10;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxBatchSize;
+    private final boolean forceOnCommit;
+    private final BlockingQueue<PendingRecord<T>> queue;
+    private final Thread writer;
+
+    private JournalSegment segment;
+    private long segmentIndex;
+    private volatile boolean running = true;
+
+    private Journal(Builder builder) throws IOException {
+        this.directory = Files.createDirectories(builder.directory);
+        this.segmentSize = builder.segmentSize;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.forceOnCommit = builder.forceOnCommit;
+        this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+        final List<Path> segments = JournalSegments.list(directory);
+        this.segmentIndex = segments.isEmpty() ? 0 : JournalSegments.index(segments.get(segments.size() - 1));
+        this.segment = JournalSegment.open(JournalSegments.file(directory, segmentIndex), segmentSize);
+        this.writer = new Thread(this::writeLoop, "parameter-object-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public static Builder builder(Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Enqueues a record. Blocks while the queue is full.
+     * <p>
+     * A record enqueued while the journal is closing may arrive after the writer has stopped and the queue has
+     * been drained. Such a record is taken back from the queue and its future fails, unless the writer or
+     * {@link #close()} has already taken it.
+     *
+     * @return future completed once the record is written and, unless disabled, forced to storage
+     */
+    public CompletableFuture<Void> append(T record) {
+        if (!running) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        final PendingRecord<T> pending = new PendingRecord<>(record);
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future.completeExceptionally(e);
+            return pending.future;
+        }
+        if (!running && queue.remove(pending)) {
+            pending.future.completeExceptionally(new IllegalStateException("Journal is closed"));
+        }
+        return pending.future;
+    }
+
+    /**
+     * Stops accepting records, writes everything already enqueued and closes the current segment.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final List<PendingRecord<T>> rejected = new ArrayList<>();
+        queue.drainTo(rejected);
+        rejected.forEach(pending -> pending.future.completeExceptionally(new IllegalStateException("Journal is closed")));
+        segment.close();
+    }
+
+    private void writeLoop() {
+        final List<PendingRecord<T>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final PendingRecord<T> first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingRecord<T>> batch) {
+        final List<PendingRecord<T>> written = new ArrayList<>(batch.size());
+        for (PendingRecord<T> pending : batch) {
+            try {
+                write(pending.record);
+                written.add(pending);
+            } catch (RuntimeException | IOException e) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+        try {
+            if (forceOnCommit) {
+                segment.force();
+            }
+            written.forEach(pending -> pending.future.complete(null));
+        } catch (RuntimeException e) {
+            written.forEach(pending -> pending.future.completeExceptionally(e));
+        }
+    }
+
+    private void write(T record) throws IOException {
+        final int size = record.binarySize();
+        if (JournalSegment.capacityFor(size) > segmentSize) {
+            throw new IllegalArgumentException(String.format(
+                "Record of %d bytes does not fit into a segment of %d bytes", size, segmentSize));
+        }
+        if (!segment.tryAppend(record)) {
+            rollSegment();
+            segment.tryAppend(record);
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        segment.close();
+        segmentIndex++;
+        segment = JournalSegment.open(JournalSegments.file(directory, segmentIndex), segmentSize);
+    }
+
+    private static final class PendingRecord<T> {
+
+        private final T record;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingRecord(T record) {
+            this.record = record;
+        }
+    }
+
+    public static final class Builder {
+
+        private final Path directory;
+        private int segmentSize = 64 * 1024 * 1024;
+        private int maxBatchSize = 1024;
+        private int queueCapacity = 64 * 1024;
+        private boolean forceOnCommit = true;
+
+        private Builder(Path directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * Size of a single segment file in bytes.
+         */
+        public Builder segmentSize(int segmentSize) {
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Maximum number of records written before a single {@code force()}.
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Number of records waiting for the writer before {@link Journal#append} blocks.
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * When disabled batches are left to the operating system to flush.
+         */
+        public Builder forceOnCommit(boolean forceOnCommit) {
+            this.forceOnCommit = forceOnCommit;
+            return this;
+        }
+
+        public <T extends BinaryWritable> Journal<T> build() {
+            try {
+                return new Journal<>(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package net.anatolich.parameterobject.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Replays records of a {@link Journal} in the order they were appended.
+ * Records are decoded straight from the mapped segments with a generated {@code readFrom(ByteBuffer)} factory.
+ */
+public class JournalReader<T> {
+
+    private final Path directory;
+    private final Function<ByteBuffer, T> decoder;
+
+    public JournalReader(Path directory, Function<ByteBuffer, T> decoder) {
+        this.directory = directory;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Decodes every record and passes it to a consumer.
+     *
+     * @return number of replayed records
+     */
+    public long replay(Consumer<? super T> consumer) {
+        try {
+            long records = 0;
+            final List<Path> segments = JournalSegments.list(directory);
+            for (Path segment : segments) {
+                records += replaySegment(segment, consumer);
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long replaySegment(Path segment, Consumer<? super T> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            long records = 0;
+            while (buffer.remaining() >= JournalSegment.LENGTH_BYTES) {
+                final int length = buffer.getInt();
+                if (length == 0) {
+                    break;
+                }
+                final ByteBuffer record = buffer.slice();
+                record.limit(length);
+                consumer.accept(decoder.apply(record));
+                buffer.position(buffer.position() + length);
+                records++;
+            }
+            return records;
+        }
+    }
+}
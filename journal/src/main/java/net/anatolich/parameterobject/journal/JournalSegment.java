@@ -0,0 +1,95 @@
+package net.anatolich.parameterobject.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import net.anatolich.parameterobject.BinaryWritable;
+
+/**
+ * Memory-mapped segment file. Records are framed as a length followed by the payload,
+ * zero length marks the end of written records.
+ */
+class JournalSegment implements AutoCloseable {
+
+    static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private JournalSegment(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment open(Path file, int size) throws IOException {
+        final FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final JournalSegment segment = new JournalSegment(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        segment.skipWrittenRecords();
+        return segment;
+    }
+
+    static int capacityFor(int recordSize) {
+        return LENGTH_BYTES + recordSize + LENGTH_BYTES;
+    }
+
+    /**
+     * Appends a record unless it does not fit into the remaining space.
+     * The length is written after the payload, so readers never see a partially written record.
+     * A record failing to write is discarded and the next record takes its place.
+     */
+    boolean tryAppend(BinaryWritable record) {
+        final int size = record.binarySize();
+        if (buffer.remaining() < capacityFor(size)) {
+            return false;
+        }
+        final int start = buffer.position();
+        buffer.position(start + LENGTH_BYTES);
+        try {
+            record.writeTo(buffer);
+            final int written = buffer.position() - start - LENGTH_BYTES;
+            if (written != size) {
+                throw new IllegalStateException(String.format(
+                    "%s wrote %d bytes but declared %d", record.getClass().getName(), written, size));
+            }
+        } catch (RuntimeException | Error e) {
+            discard(start, Math.max(buffer.position(), start + capacityFor(size)));
+            throw e;
+        }
+        buffer.putInt(start, size);
+        return true;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /**
+     * Zeroes bytes of a failed write, so that neither the length slot nor leftovers of the payload are read
+     * as records, and moves back to the start of the failed record.
+     */
+    private void discard(int start, int end) {
+        for (int index = start; index < Math.min(end, buffer.limit()); index++) {
+            buffer.put(index, (byte) 0);
+        }
+        buffer.position(start);
+    }
+
+    private void skipWrittenRecords() {
+        while (buffer.remaining() >= LENGTH_BYTES) {
+            final int length = buffer.getInt(buffer.position());
+            if (length == 0) {
+                return;
+            }
+            buffer.position(buffer.position() + LENGTH_BYTES + length);
+        }
+    }
+}
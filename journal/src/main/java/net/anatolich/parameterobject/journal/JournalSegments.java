@@ -0,0 +1,42 @@
+package net.anatolich.parameterobject.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+final class JournalSegments {
+
+    private static final String EXTENSION = ".segment";
+
+    private JournalSegments() {
+        throw new UnsupportedOperationException("must not be instantiated");
+    }
+
+    static Path file(Path directory, long index) {
+        return directory.resolve(String.format("%020d%s", index, EXTENSION));
+    }
+
+    static long index(Path segment) {
+        final String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - EXTENSION.length()));
+    }
+
+    /**
+     * Segment files of a journal in the order they were written.
+     */
+    static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+}
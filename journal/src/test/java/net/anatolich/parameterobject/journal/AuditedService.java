@@ -0,0 +1,11 @@
+package net.anatolich.parameterobject.journal;
+
+import java.util.Set;
+import net.anatolich.parameterobject.ParameterObject;
+
+class AuditedService {
+
+    @ParameterObject
+    void login(String username, long timestamp, Set<String> roles) {
+    }
+}
@@ -0,0 +1,178 @@
+package net.anatolich.parameterobject.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.anatolich.parameterobject.BinaryWritable;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalTest {
+
+    @Test
+    void replaysAppendedRecordsInOrder(@TempDir Path directory) throws Exception {
+        final List<AuditedServiceLoginParameters> records = records(100);
+
+        try (Journal<AuditedServiceLoginParameters> journal = Journal.builder(directory).build()) {
+            appendAll(journal, records);
+        }
+
+        Assertions.assertThat(replay(directory)).isEqualTo(usernames(records));
+    }
+
+    @Test
+    void rollsSegmentsWhenFull(@TempDir Path directory) throws Exception {
+        final List<AuditedServiceLoginParameters> records = records(1000);
+
+        try (Journal<AuditedServiceLoginParameters> journal = Journal.builder(directory)
+            .segmentSize(4096)
+            .maxBatchSize(16)
+            .build()) {
+            appendAll(journal, records);
+        }
+
+        try (Stream<Path> segments = Files.list(directory)) {
+            Assertions.assertThat(segments.count()).isGreaterThan(1);
+        }
+        Assertions.assertThat(replay(directory)).isEqualTo(usernames(records));
+    }
+
+    @Test
+    void reopenedJournalAppendsAfterExistingRecords(@TempDir Path directory) throws Exception {
+        final List<AuditedServiceLoginParameters> first = records(10);
+        final List<AuditedServiceLoginParameters> second = records(5);
+
+        try (Journal<AuditedServiceLoginParameters> journal = Journal.builder(directory).segmentSize(65536).build()) {
+            appendAll(journal, first);
+        }
+        try (Journal<AuditedServiceLoginParameters> journal = Journal.builder(directory).segmentSize(65536).build()) {
+            appendAll(journal, second);
+        }
+
+        final List<String> expected = new ArrayList<>(usernames(first));
+        expected.addAll(usernames(second));
+        Assertions.assertThat(replay(directory)).isEqualTo(expected);
+    }
+
+    @Test
+    void recordLargerThanSegmentFails(@TempDir Path directory) throws Exception {
+        try (Journal<AuditedServiceLoginParameters> journal = Journal.builder(directory).segmentSize(64).build()) {
+            final char[] name = new char[100];
+            Arrays.fill(name, 'a');
+
+            final CompletableFuture<Void> append = journal.append(
+                new AuditedServiceLoginParameters(new String(name), 0L, Collections.emptySet()));
+
+            Assertions.assertThatThrownBy(append::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void recordFailingToWriteDoesNotHideNextRecords(@TempDir Path directory) throws Exception {
+        final List<AuditedServiceLoginParameters> records = records(2);
+        final BinaryWritable failing = new BinaryWritable() {
+            @Override
+            public int binarySize() {
+                return 16;
+            }
+
+            @Override
+            public void writeTo(ByteBuffer buffer) {
+                buffer.putLong(-1L);
+                throw new NullPointerException("codec failure");
+            }
+        };
+
+        final CompletableFuture<Void> failed;
+        final CompletableFuture<Void> written;
+        try (Journal<BinaryWritable> journal = Journal.builder(directory).build()) {
+            journal.append(records.get(0)).join();
+            failed = journal.append(failing);
+            written = journal.append(records.get(1));
+        }
+
+        Assertions.assertThatThrownBy(failed::get).hasCauseInstanceOf(NullPointerException.class);
+        Assertions.assertThat(written).isCompleted();
+        Assertions.assertThat(written.isCompletedExceptionally()).isFalse();
+        Assertions.assertThat(replay(directory)).isEqualTo(usernames(records));
+    }
+
+    @Test
+    void appendsRacingWithCloseAllComplete(@TempDir Path directory) throws Exception {
+        final Journal<AuditedServiceLoginParameters> journal = Journal.builder(directory)
+            .forceOnCommit(false)
+            .build();
+        final Queue<CompletableFuture<Void>> appends = new ConcurrentLinkedQueue<>();
+        final AuditedServiceLoginParameters record = records(1).get(0);
+        final ExecutorService producers = Executors.newFixedThreadPool(4);
+        final CountDownLatch started = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            producers.execute(() -> {
+                started.countDown();
+                try {
+                    while (true) {
+                        appends.add(journal.append(record));
+                    }
+                } catch (IllegalStateException closed) {
+                    // journal is closed
+                }
+            });
+        }
+
+        started.await();
+        journal.close();
+        producers.shutdown();
+        Assertions.assertThat(producers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        Assertions.assertThat(CompletableFuture.allOf(appends.toArray(new CompletableFuture[0]))
+            .handle((result, error) -> true)
+            .get(5, TimeUnit.SECONDS))
+            .isTrue();
+    }
+
+    private static void appendAll(Journal<AuditedServiceLoginParameters> journal,
+        List<AuditedServiceLoginParameters> records) {
+        final CompletableFuture<?>[] appends = records.stream()
+            .map(journal::append)
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(appends).join();
+    }
+
+    private static List<String> replay(Path directory) {
+        final List<String> replayed = new ArrayList<>();
+        new JournalReader<>(directory, AuditedServiceLoginParameters::readFrom)
+            .replay(parameters -> replayed.add(parameters.getUsername()));
+        return replayed;
+    }
+
+    private static List<AuditedServiceLoginParameters> records(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new AuditedServiceLoginParameters("user" + i + "-" + System.nanoTime(), i,
+                Collections.singleton("role" + i)))
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> usernames(List<AuditedServiceLoginParameters> records) {
+        return records.stream()
+            .map(AuditedServiceLoginParameters::getUsername)
+            .collect(Collectors.toList());
+    }
+}